@@ -0,0 +1,20 @@
+package com.lkj.study.infra.blob;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+import java.nio.file.Path;
+
+@Getter
+@RequiredArgsConstructor
+public class Blob {
+
+    private final String hash;
+
+    private final Path path;
+
+    private final MediaType contentType;
+
+    private final long length;
+}
@@ -0,0 +1,29 @@
+package com.lkj.study.infra.blob;
+
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * blob 을 HTTP 응답으로 변환
+ * hash 가 곧 내용이므로 강한 ETag 로 사용하고, 같은 주소의 내용은 바뀌지 않으므로 immutable 로 1년간 캐시
+ * If-None-Match 가 ETag 와 같으면 ResponseEntity 처리 과정에서 304 Not Modified 로 응답
+ */
+public class BlobResponses {
+
+    private static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    public static ResponseEntity<Resource> of(Blob blob) {
+        return ResponseEntity.ok()
+                .eTag("\"" + blob.getHash() + "\"")
+                .header(HttpHeaders.CACHE_CONTROL, IMMUTABLE_CACHE_CONTROL)
+                .contentType(blob.getContentType())
+                .contentLength(blob.getLength())
+                .body(new FileSystemResource(blob.getPath()));
+    }
+
+    public static ResponseEntity<Resource> notFound() {
+        return ResponseEntity.notFound().build();
+    }
+}
@@ -0,0 +1,111 @@
+package com.lkj.study.infra.blob;
+
+import com.lkj.study.infra.config.AppProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * 이미지를 DB row 대신 로컬 디스크에 내용의 SHA-256 hash 를 이름으로 저장하는 저장소(content-addressed)
+ * 같은 내용은 한 번만 저장되고, 내용이 바뀌면 hash(주소)도 바뀌므로 응답을 영구히 캐시할 수 있음
+ * 저장 경로 : {app.blob-directory}/{hash 앞 2자리}/{hash}
+ */
+@Slf4j
+@Component
+public class BlobStore {
+
+    private static final Pattern HASH_PATTERN = Pattern.compile("^[0-9a-f]{64}$");
+
+    private static final String DATA_URL_PREFIX = "data:image/";
+
+    private static final String BASE64_MARKER = ";base64,";
+
+    private static final int HEADER_SIZE = 8;
+
+    private final Path root;
+
+    public BlobStore(AppProperties appProperties) {
+        this.root = Paths.get(appProperties.getBlobDirectory()).toAbsolutePath();
+    }
+
+    /**
+     * cropper 가 만든 data URL(data:image/png;base64,...) 을 이미지 파일로 저장하고 hash 를 반환
+     */
+    public String saveImageDataUrl(String dataUrl) {
+        if (dataUrl == null || !dataUrl.startsWith(DATA_URL_PREFIX) || !dataUrl.contains(BASE64_MARKER)) {
+            throw new IllegalArgumentException("이미지 data URL 형식이 아닙니다.");
+        }
+
+        String base64 = dataUrl.substring(dataUrl.indexOf(BASE64_MARKER) + BASE64_MARKER.length());
+        return saveImage(Base64.getDecoder().decode(base64.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    public String saveImage(byte[] bytes) {
+        ImageType.of(bytes);
+        String hash = sha256(bytes);
+        Path target = pathOf(hash);
+        if (Files.exists(target)) {
+            return hash;
+        }
+
+        try {
+            Files.createDirectories(target.getParent());
+            Path temp = Files.createTempFile(target.getParent(), hash, ".tmp");
+            Files.write(temp, bytes);
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                Files.deleteIfExists(temp);
+            }
+            return hash;
+        } catch (IOException e) {
+            throw new UncheckedIOException("이미지를 저장할 수 없습니다.", e);
+        }
+    }
+
+    public Optional<Blob> find(String hash) {
+        if (hash == null || !HASH_PATTERN.matcher(hash).matches()) {
+            return Optional.empty();
+        }
+
+        Path path = pathOf(hash);
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            byte[] header = inputStream.readNBytes(HEADER_SIZE);
+            return Optional.of(new Blob(hash, path, ImageType.of(header).getMediaType(), Files.size(path)));
+        } catch (IOException e) {
+            log.error("cannot read blob {}", hash, e);
+            return Optional.empty();
+        }
+    }
+
+    private Path pathOf(String hash) {
+        return root.resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    private String sha256(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
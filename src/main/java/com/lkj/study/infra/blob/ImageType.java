@@ -0,0 +1,37 @@
+package com.lkj.study.infra.blob;
+
+import org.springframework.http.MediaType;
+
+import java.util.Arrays;
+
+/**
+ * 저장된 파일의 앞부분(magic number)으로 이미지 형식을 판별
+ * 이미지가 아닌 내용은 저장하지 않기 위해 사용하고, 제공할 때 Content-Type 을 정하는 데에도 사용
+ */
+enum ImageType {
+
+    PNG(MediaType.IMAGE_PNG, new byte[]{(byte) 0x89, 0x50, 0x4E, 0x47}),
+    JPEG(MediaType.IMAGE_JPEG, new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF}),
+    GIF(MediaType.IMAGE_GIF, new byte[]{0x47, 0x49, 0x46, 0x38});
+
+    private final MediaType mediaType;
+
+    private final byte[] magicNumber;
+
+    ImageType(MediaType mediaType, byte[] magicNumber) {
+        this.mediaType = mediaType;
+        this.magicNumber = magicNumber;
+    }
+
+    MediaType getMediaType() {
+        return mediaType;
+    }
+
+    static ImageType of(byte[] header) {
+        return Arrays.stream(values())
+                .filter(type -> header.length >= type.magicNumber.length
+                        && Arrays.equals(Arrays.copyOf(header, type.magicNumber.length), type.magicNumber))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 이미지 형식입니다."));
+    }
+}
@@ -10,4 +10,10 @@ import org.springframework.stereotype.Component;
 public class AppProperties {
 
     private String host;
+
+    private String blobDirectory;
+
+    private String checkInDirectory;
+
+    private String checkInSecret;
 }
@@ -0,0 +1,35 @@
+package com.lkj.study.infra.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+/**
+ * 기본 스케줄러는 thread 1개라 모든 @Scheduled 작업이 줄을 서게 됨
+ * 체크인 flush(1초), 알림 SSE heartbeat(20초), 체크인 명단 만료(1분), 안 읽은 알림 수 보정(5분, DB 조회)이
+ * 서로를 기다리지 않도록 작업 수만큼 thread 를 둠 -> @Scheduled 작업을 추가하면 POOL_SIZE 도 함께 늘릴 것
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig implements SchedulingConfigurer {
+
+    static final int POOL_SIZE = 4;
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(POOL_SIZE);
+        scheduler.setThreadNamePrefix("Scheduler-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(10);
+        return scheduler;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.setTaskScheduler(taskScheduler());
+    }
+}
@@ -1,6 +1,7 @@
 package com.lkj.study.infra.config;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -28,8 +29,10 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
         //특정 요청들을 security check 하지 않도록 설정
         http.authorizeRequests()
                 .mvcMatchers("/", "/login", "sign-up", "check-email-token",
-                        "/email-login", "/login-by-email", "/search/study").permitAll()
-                .mvcMatchers(HttpMethod.GET, "/profile/*").permitAll()
+                        "/email-login", "/login-by-email", "/search/study", "/search/study/scroll").permitAll()
+                .mvcMatchers(HttpMethod.GET, "/profile/*", "/profile-images/*", "/study-images/*").permitAll()
+                //지표(actuator)는 로그인 여부와 관계없이 서버 내부(management port 를 localhost 에만 bind)에서만 조회
+                .requestMatchers(EndpointRequest.toAnyEndpoint()).access("hasIpAddress('127.0.0.1') or hasIpAddress('::1')")
                 .anyRequest().authenticated();  //나머지는 security check
 
         //form login 기능 사용
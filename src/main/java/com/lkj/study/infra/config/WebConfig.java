@@ -4,9 +4,11 @@ import com.lkj.study.modules.notification.NotificationInterceptor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.security.StaticResourceLocation;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import javax.persistence.EntityManagerFactory;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -17,6 +19,7 @@ import java.util.stream.Collectors;
 public class WebConfig implements WebMvcConfigurer {    //webmvc 설정 custom, 기존 webMvc + 추가 설정
 
     private final NotificationInterceptor notificationInterceptor;
+    private final EntityManagerFactory entityManagerFactory;
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
@@ -25,6 +28,13 @@ public class WebConfig implements WebMvcConfigurer {    //webmvc 설정 custom,
                 .collect(Collectors.toList());
         staticResourcesPath.add("/node_modules/**");
 
+        // spring.jpa.open-in-view 대신 직접 등록
+        // 알림 SSE 연결은 최대 30분 동안 열려 있으므로 OSIV 를 적용하면 그동안 DB connection 을 잡고 있음
+        OpenEntityManagerInViewInterceptor openEntityManagerInViewInterceptor = new OpenEntityManagerInViewInterceptor();
+        openEntityManagerInViewInterceptor.setEntityManagerFactory(entityManagerFactory);
+        registry.addWebRequestInterceptor(openEntityManagerInViewInterceptor)
+                .excludePathPatterns("/notifications/stream");
+
         registry.addInterceptor(notificationInterceptor)
                 .excludePathPatterns(staticResourcesPath);
     }
@@ -70,8 +70,15 @@ public class Account {
     //@Lob -> Large OBject -> 문자열 길이를 지정하지 않으면 default -> varchar(255)
     //사진을 저장하는 경우 더 많은 자리수를 요구함 -> Lob 사용
     //@Basic -> optional annotation
-    @Lob @Basic(fetch = FetchType.EAGER)
-    private String profileImage;
+    //@Lob @Basic(fetch = FetchType.EAGER)
+    //private String profileImage;
+
+    /**
+     * 프로필 이미지는 BlobStore 에 저장하고 내용의 hash 만 보관
+     * Account 는 세션(UserAccount)에 들어가고 스터디 멤버/관리자 목록마다 조회되므로 이미지 Lob 을 들고 있지 않도록 함
+     */
+    @Column(length = 64)
+    private String profileImageHash;
 
     private boolean studyCreatedByEmail;
 
@@ -105,6 +112,10 @@ public class Account {
         return this.emailCheckToken.equals(token);
     }
 
+    public String getProfileImage() {
+        return profileImageHash != null ? "/profile-images/" + profileImageHash : null;
+    }
+
     public boolean canSendConfirmEmail() {
         return this.emailCheckTokenGeneratedAt.isBefore(LocalDateTime.now().minusHours(1));
     }
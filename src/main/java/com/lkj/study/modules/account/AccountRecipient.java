@@ -0,0 +1,22 @@
+package com.lkj.study.modules.account;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 알림 대상 계정, 메일/웹 알림에 필요한 컬럼만 projection 으로 조회
+ */
+@Getter
+@AllArgsConstructor
+public class AccountRecipient {
+
+    private final Long id;
+
+    private final String nickname;
+
+    private final String email;
+
+    private final boolean byEmail;
+
+    private final boolean byWeb;
+}
@@ -6,7 +6,7 @@ import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.transaction.annotation.Transactional;
 
 @Transactional(readOnly = true)
-public interface AccountRepository extends JpaRepository<Account, Long>,  QuerydslPredicateExecutor<Account> {
+public interface AccountRepository extends JpaRepository<Account, Long>,  QuerydslPredicateExecutor<Account>, AccountRepositoryExtension {
     boolean existsByEmail(String email);
 
     boolean existsByNickname(String nickName);
@@ -0,0 +1,14 @@
+package com.lkj.study.modules.account;
+
+import com.lkj.study.modules.tag.Tag;
+import com.lkj.study.modules.zone.Zone;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+
+@Transactional(readOnly = true)
+public interface AccountRepositoryExtension {
+
+    List<AccountRecipient> findStudyCreatedRecipients(Set<Tag> tags, Set<Zone> zones, Long lastId, int limit);
+}
@@ -0,0 +1,35 @@
+package com.lkj.study.modules.account;
+
+import com.lkj.study.modules.tag.Tag;
+import com.lkj.study.modules.zone.Zone;
+import com.querydsl.core.types.Projections;
+import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+
+import java.util.List;
+import java.util.Set;
+
+public class AccountRepositoryExtensionImpl extends QuerydslRepositorySupport implements AccountRepositoryExtension {
+
+    public AccountRepositoryExtensionImpl() {
+        super(Account.class);
+    }
+
+    /**
+     * 관심 주제/활동 지역이 겹치고 메일이나 웹으로 스터디 생성 알림을 받는 계정을 id 순으로 limit 개씩
+     * lastId 다음부터 읽는 keyset 방식이라 앞 chunk 를 다시 읽지 않고, 엔티티 대신 필요한 컬럼만 조회
+     */
+    @Override
+    public List<AccountRecipient> findStudyCreatedRecipients(Set<Tag> tags, Set<Zone> zones, Long lastId, int limit) {
+        QAccount account = QAccount.account;
+        return from(account)
+                .select(Projections.constructor(AccountRecipient.class,
+                        account.id, account.nickname, account.email,
+                        account.studyCreatedByEmail, account.studyCreatedByWeb))
+                .where(AccountPredicates.findByTagsAndZones(tags, zones),
+                        account.studyCreatedByEmail.isTrue().or(account.studyCreatedByWeb.isTrue()),
+                        account.id.gt(lastId))
+                .orderBy(account.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+}
@@ -1,6 +1,8 @@
 package com.lkj.study.modules.account;
 
+import com.lkj.study.infra.blob.BlobStore;
 import com.lkj.study.infra.config.AppProperties;
+import com.lkj.study.modules.account.event.AccountInterestChangedEvent;
 import com.lkj.study.modules.account.form.SignUpForm;
 import com.lkj.study.modules.tag.Tag;
 import com.lkj.study.modules.zone.Zone;
@@ -10,6 +12,7 @@ import com.lkj.study.modules.account.form.Profile;
 import com.lkj.study.modules.account.form.Notifications;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -38,6 +41,8 @@ public class AccountService implements UserDetailsService { //spring security cl
     private final ModelMapper modelMapper;
     private final TemplateEngine templateEngine;
     private final AppProperties appProperties;
+    private final BlobStore blobStore;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Account processNewAccount(SignUpForm signUpForm) {
         Account newAccount = saveNewAccount(signUpForm);
@@ -142,9 +147,21 @@ public class AccountService implements UserDetailsService { //spring security cl
      */
     public void updateProfile(Account account, Profile profile) {
         modelMapper.map(profile, account); //source -> destination
+        updateProfileImage(account, profile.getProfileImage());
         accountRepository.save(account);    //detached 상태 객체를 merge 하게 됨
     }
 
+    /**
+     * 새로 자른 이미지(data URL)는 BlobStore 에 저장, 빈 값은 이미지 삭제, 그 외(현재 이미지 주소)는 그대로 유지
+     */
+    private void updateProfileImage(Account account, String profileImage) {
+        if (profileImage == null || profileImage.isEmpty()) {
+            account.setProfileImageHash(null);
+        } else if (profileImage.startsWith("data:image/")) {
+            account.setProfileImageHash(blobStore.saveImageDataUrl(profileImage));
+        }
+    }
+
     public void updatePassword(Account account, String newPassword) {
         account.setPassword(passwordEncoder.encode(newPassword));
         accountRepository.save(account);
@@ -182,6 +199,7 @@ public class AccountService implements UserDetailsService { //spring security cl
     public void addTag(Account account, Tag tag) {
         Optional<Account> byId = accountRepository.findById(account.getId());
         byId.ifPresent(a -> a.getTags().add(tag));
+        eventPublisher.publishEvent(new AccountInterestChangedEvent(account.getId()));
         //findById -> eager loading
         //getOne -> lazy loading
     }
@@ -194,6 +212,7 @@ public class AccountService implements UserDetailsService { //spring security cl
     public void removeTag(Account account, Tag tag) {
         Optional<Account> byId = accountRepository.findById(account.getId());
         byId.ifPresent(a -> a.getTags().remove(tag));
+        eventPublisher.publishEvent(new AccountInterestChangedEvent(account.getId()));
     }
 
     public Set<Zone> getZones(Account account) {
@@ -204,11 +223,13 @@ public class AccountService implements UserDetailsService { //spring security cl
     public void addZone(Account account, Zone zone) {
         Optional<Account> byId = accountRepository.findById(account.getId());
         byId.ifPresent(a -> a.getZones().add(zone));
+        eventPublisher.publishEvent(new AccountInterestChangedEvent(account.getId()));
     }
 
     public void removeZone(Account account, Zone zone) {
         Optional<Account> byId = accountRepository.findById(account.getId());
         byId.ifPresent(a -> a.getZones().remove(zone));
+        eventPublisher.publishEvent(new AccountInterestChangedEvent(account.getId()));
     }
 
     public Account getAccount(String nickname) {
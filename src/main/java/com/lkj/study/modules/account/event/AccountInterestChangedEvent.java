@@ -0,0 +1,15 @@
+package com.lkj.study.modules.account.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 관심 주제(tag) 또는 활동 지역(zone)이 바뀐 경우
+ * account 모듈은 study 모듈을 알 수 없으므로 추천 스터디 갱신 등은 이벤트를 받는 쪽에서 처리
+ */
+@Getter
+@RequiredArgsConstructor
+public class AccountInterestChangedEvent {
+
+    private final Long accountId;
+}
@@ -0,0 +1,12 @@
+package com.lkj.study.modules.event;
+
+/**
+ * 같은 계정의 참가 신청이 동시에 들어와서 unique 제약(uk_enrollment_event_account)에 걸린 경우
+ * 먼저 처리된 신청이 이미 있으므로 요청한 쪽에서는 신청된 것으로 보면 됨
+ */
+public class DuplicateEnrollmentException extends RuntimeException {
+
+    public DuplicateEnrollmentException(Throwable cause) {
+        super("이미 참가 신청한 모임입니다.", cause);
+    }
+}
@@ -17,8 +17,12 @@ import java.time.LocalDateTime;
 )
 @Entity
 @Getter @Setter @EqualsAndHashCode(of = "id")
+@Table(uniqueConstraints = @UniqueConstraint(name = Enrollment.UNIQUE_EVENT_ACCOUNT, columnNames = {"event_id", "account_id"}),
+        indexes = @Index(name = "idx_enrollment_event_accepted_enrolled_at", columnList = "event_id, accepted, enrolledAt"))
 public class Enrollment {
 
+    static final String UNIQUE_EVENT_ACCOUNT = "uk_enrollment_event_account";
+
     @Id
     @GeneratedValue
     private Long id;
@@ -0,0 +1,6 @@
+package com.lkj.study.modules.event;
+
+public enum EnrollmentOperation {
+
+    ACCEPT, REJECT, CHECK_IN, CANCEL_CHECK_IN;
+}
@@ -3,14 +3,56 @@ package com.lkj.study.modules.event;
 import com.lkj.study.modules.account.Account;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 
-public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
+public interface EnrollmentRepository extends JpaRepository<Enrollment, Long>, EnrollmentRepositoryExtension {
     boolean existsByEventAndAccount(Event event, Account account);
 
     Enrollment findByEventAndAccount(Event event, Account account);
 
     @EntityGraph("Enrollment.withEventAndStudy")
     List<Enrollment> findByAccountAndAcceptedOrderByEnrolledAtDesc(Account account, boolean accepted);
+
+    /**
+     * 대기자 여러 명을 UPDATE 한 번으로 확정
+     * 영속성 컨텍스트에 남아있는 Enrollment 는 변경 전 값이므로 실행 전에 flush, 실행 후에 clear
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Enrollment e set e.accepted = true where e.id in :ids and e.accepted = false")
+    int acceptAll(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 확정된 신청 여러 건을 UPDATE 한 번으로 대기로 되돌림, 출석한 신청은 제외
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Enrollment e set e.accepted = false where e.id in :ids and e.accepted = true and e.attended = false")
+    int rejectAll(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 같은 모임의 확정된 신청 여러 건의 출석 여부를 UPDATE 한 번으로 변경
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Enrollment e set e.attended = :attended " +
+            "where e.event = :event and e.id in :ids and e.accepted = true and e.attended <> :attended")
+    int updateAttended(@Param("event") Event event, @Param("ids") Collection<Long> ids, @Param("attended") boolean attended);
+
+    /**
+     * 체크인 모드에서 모아 둔 체크인을 UPDATE 한 번으로 반영, 이미 출석이면 변경 없음
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Enrollment e set e.attended = true where e.id in :ids and e.accepted = true and e.attended = false")
+    int checkInAll(@Param("ids") Collection<Long> ids);
+
+    @EntityGraph(attributePaths = "account")
+    List<Enrollment> findWithAccountByIdIn(Collection<Long> ids);
 }
@@ -0,0 +1,29 @@
+package com.lkj.study.modules.event;
+
+import com.lkj.study.modules.account.Account;
+import com.lkj.study.modules.event.checkin.CheckInAttendee;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+@Transactional(readOnly = true)
+public interface EnrollmentRepositoryExtension {
+
+    List<Long> findWaitingIds(Event event, int limit);
+
+    long countWaitingBefore(Enrollment enrollment);
+
+    Page<Enrollment> findRoster(Event event, Pageable pageable);
+
+    List<Long> findIdsToAccept(Event event, Collection<Long> ids, int limit);
+
+    List<Long> findIdsToReject(Event event, Collection<Long> ids);
+
+    List<CheckInAttendee> findCheckInAttendees(Event event);
+
+    Map<Long, EnrollmentStatus> findStatusByEvents(Account account, Collection<Long> eventIds);
+}
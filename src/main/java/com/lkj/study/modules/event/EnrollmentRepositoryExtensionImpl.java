@@ -0,0 +1,141 @@
+package com.lkj.study.modules.event;
+
+import com.lkj.study.modules.account.Account;
+import com.lkj.study.modules.account.QAccount;
+import com.lkj.study.modules.event.checkin.CheckInAttendee;
+import com.querydsl.core.types.Projections;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 대기자 조회는 (event_id, accepted, enrolledAt) index 순서대로 읽음
+ * enrollments 컬렉션을 로딩해서 순회하지 않음
+ */
+public class EnrollmentRepositoryExtensionImpl extends QuerydslRepositorySupport implements EnrollmentRepositoryExtension {
+
+    public EnrollmentRepositoryExtensionImpl() {
+        super(Enrollment.class);
+    }
+
+    /**
+     * 먼저 신청한 대기자부터 limit 명
+     */
+    @Override
+    public List<Long> findWaitingIds(Event event, int limit) {
+        QEnrollment enrollment = QEnrollment.enrollment;
+        return from(enrollment).select(enrollment.id)
+                .where(enrollment.event.eq(event).and(enrollment.accepted.isFalse()))
+                .orderBy(enrollment.enrolledAt.asc(), enrollment.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 같은 모임에서 이 신청보다 먼저 신청한 대기자 수 -> 대기 순번은 이 값 + 1
+     */
+    @Override
+    public long countWaitingBefore(Enrollment target) {
+        QEnrollment enrollment = QEnrollment.enrollment;
+        return from(enrollment)
+                .where(enrollment.event.eq(target.getEvent())
+                        .and(enrollment.accepted.isFalse())
+                        .and(enrollment.enrolledAt.lt(target.getEnrolledAt())
+                                .or(enrollment.enrolledAt.eq(target.getEnrolledAt()).and(enrollment.id.lt(target.getId())))))
+                .fetchCount();
+    }
+
+    /**
+     * 모임 화면의 참가 신청 목록, 신청 순서로 한 페이지만 계정과 함께 조회
+     * 전체 건수는 모임의 확정/대기 인원 수 컬럼으로 계산하므로 count 쿼리를 실행하지 않음
+     */
+    @Override
+    public Page<Enrollment> findRoster(Event event, Pageable pageable) {
+        QEnrollment enrollment = QEnrollment.enrollment;
+        List<Enrollment> content = from(enrollment)
+                .join(enrollment.account, QAccount.account).fetchJoin()
+                .where(enrollment.event.eq(event))
+                .orderBy(enrollment.enrolledAt.asc(), enrollment.id.asc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+        return new PageImpl<>(content, pageable, event.getAcceptedCount() + event.getWaitingCount());
+    }
+
+    /**
+     * ids 중 이 모임의 수락할 수 있는 대기 신청(출석하지 않은), 먼저 신청한 순서로 limit 개
+     * 다른 모임의 신청 id 가 섞여 있어도 무시
+     */
+    @Override
+    public List<Long> findIdsToAccept(Event event, Collection<Long> ids, int limit) {
+        if (ids.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        QEnrollment enrollment = QEnrollment.enrollment;
+        return from(enrollment).select(enrollment.id)
+                .where(enrollment.event.eq(event)
+                        .and(enrollment.id.in(ids))
+                        .and(enrollment.accepted.isFalse())
+                        .and(enrollment.attended.isFalse()))
+                .orderBy(enrollment.enrolledAt.asc(), enrollment.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<Long> findIdsToReject(Event event, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        QEnrollment enrollment = QEnrollment.enrollment;
+        return from(enrollment).select(enrollment.id)
+                .where(enrollment.event.eq(event)
+                        .and(enrollment.id.in(ids))
+                        .and(enrollment.accepted.isTrue())
+                        .and(enrollment.attended.isFalse()))
+                .fetch();
+    }
+
+    /**
+     * 체크인 명단, 확정된 신청과 계정 닉네임만 projection 으로 조회
+     */
+    @Override
+    public List<CheckInAttendee> findCheckInAttendees(Event event) {
+        QEnrollment enrollment = QEnrollment.enrollment;
+        return from(enrollment)
+                .join(enrollment.account, QAccount.account)
+                .select(Projections.constructor(CheckInAttendee.class,
+                        enrollment.id, QAccount.account.nickname, enrollment.attended))
+                .where(enrollment.event.eq(event).and(enrollment.accepted.isTrue()))
+                .fetch();
+    }
+
+    /**
+     * 모임 목록을 보는 계정의 신청 상태를 (event_id, account_id) unique index 로 한 번에 조회
+     * 모임마다 enrollments 컬렉션을 로딩해서 계정을 비교하지 않음
+     */
+    @Override
+    public Map<Long, EnrollmentStatus> findStatusByEvents(Account account, Collection<Long> eventIds) {
+        if (account == null || eventIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        QEnrollment enrollment = QEnrollment.enrollment;
+        return from(enrollment)
+                .select(Projections.constructor(EnrollmentStatus.class,
+                        enrollment.event.id, enrollment.accepted, enrollment.attended))
+                .where(enrollment.account.eq(account).and(enrollment.event.id.in(eventIds)))
+                .fetch().stream()
+                .collect(Collectors.toMap(EnrollmentStatus::getEventId, Function.identity()));
+    }
+}
@@ -0,0 +1,23 @@
+package com.lkj.study.modules.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 화면을 보는 계정의 모임별 참가 신청 상태
+ * 신청하지 않은 모임은 상태가 없음(null)
+ */
+@Getter
+@RequiredArgsConstructor
+public class EnrollmentStatus {
+
+    private final Long eventId;
+
+    private final boolean accepted;
+
+    private final boolean attended;
+
+    public static EnrollmentStatus of(Enrollment enrollment) {
+        return new EnrollmentStatus(enrollment.getEvent().getId(), enrollment.isAccepted(), enrollment.isAttended());
+    }
+}
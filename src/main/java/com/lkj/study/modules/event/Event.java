@@ -1,7 +1,6 @@
 package com.lkj.study.modules.event;
 
 import com.lkj.study.modules.account.Account;
-import com.lkj.study.modules.account.UserAccount;
 import com.lkj.study.modules.study.Study;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -11,13 +10,13 @@ import javax.persistence.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @NamedEntityGraph(
         name = "Event.withEnrollments",
         attributeNodes = @NamedAttributeNode("enrollments")
 )
 @Entity
+@Table(indexes = @Index(name = "idx_event_study_end_date_time", columnList = "study_id, endDateTime"))
 @Getter @Setter @EqualsAndHashCode(of = "id")
 public class Event {
 
@@ -59,117 +58,77 @@ public class Event {
     @Enumerated(EnumType.STRING)
     private EventType eventType;
 
-    public boolean isEnrollableFor(UserAccount userAccount) {
-        return isNotClosed() && !isAttended(userAccount) && !isAlreadyEnrolled(userAccount);
+    /**
+     * 확정/대기 인원 수를 컬렉션을 순회하지 않고 읽을 수 있도록 별도 컬럼으로 관리
+     * 참가 신청/취소/일괄 처리는 EventRepository 의 조건부 UPDATE 로, 단건 수락/거절은 accept/reject 로 변경
+     * Event 가 함께 수정되므로 @Version 으로 동시 수정을 막음(optimistic lock)
+     */
+    private int acceptedCount;
+
+    private int waitingCount;
+
+    @Version
+    private Long version;
+
+    /**
+     * enrollmentStatus 는 화면을 보는 계정의 이 모임 신청 상태(신청하지 않았으면 null)
+     * 컬렉션을 순회해서 계정을 찾지 않도록 상태를 미리 조회해서 넘겨 받음
+     */
+    public boolean isEnrollableFor(EnrollmentStatus enrollmentStatus) {
+        return isNotClosed() && enrollmentStatus == null;
     }
 
-    public boolean isDisenrollableFor(UserAccount userAccount) {
-        return isNotClosed() && !isAttended(userAccount) && isAlreadyEnrolled(userAccount);
+    public boolean isDisenrollableFor(EnrollmentStatus enrollmentStatus) {
+        return isNotClosed() && enrollmentStatus != null && !enrollmentStatus.isAttended();
     }
 
     private boolean isNotClosed() {
         return this.endEnrollmentDateTime.isAfter(LocalDateTime.now());
     }
 
-    public boolean isAttended(UserAccount userAccount) {
-        Account account = userAccount.getAccount();
-        for (Enrollment e : this.enrollments) {
-            if (e.getAccount().equals(account) && e.isAttended()) {
-                return true;
-            }
-        }
-
-        return false;
-    }
-
     public int numberOfRemainSpots() {
-        return this.limitOfEnrollments - (int) this.enrollments.stream().filter(Enrollment::isAccepted).count();
-    }
-
-    private boolean isAlreadyEnrolled(UserAccount userAccount) {
-        Account account = userAccount.getAccount();
-        for (Enrollment e : this.enrollments) {
-            if (e.getAccount().equals(account)) {
-                return true;
-            }
-        }
-        return false;
+        return this.limitOfEnrollments - this.acceptedCount;
     }
 
     public long getNumberOfAcceptedEnrollments() {
-        return this.enrollments.stream().filter(Enrollment::isAccepted).count();
-    }
-
-    public void addEnrollment(Enrollment enrollment) {
-        this.enrollments.add(enrollment);
-        enrollment.setEvent(this);
-    }
-
-    public void removeEnrollment(Enrollment enrollment) {
-        this.enrollments.remove(enrollment);
-        enrollment.setEvent(null);
-    }
-
-    public boolean isAbleToAcceptWaitingEnrollment() {
-        return this.eventType == EventType.FCFS && this.limitOfEnrollments > this.getNumberOfAcceptedEnrollments();
+        return this.acceptedCount;
     }
 
     public boolean canAccept(Enrollment enrollment) {
         return this.eventType == EventType.CONFIRMATIVE
-                && this.enrollments.contains(enrollment)
-                && this.limitOfEnrollments > this.getNumberOfAcceptedEnrollments()
+                && this.equals(enrollment.getEvent())
+                && this.limitOfEnrollments > this.acceptedCount
                 && !enrollment.isAttended()
                 && !enrollment.isAccepted();
     }
 
     public boolean canReject(Enrollment enrollment) {
         return this.eventType == EventType.CONFIRMATIVE
-                && this.enrollments.contains(enrollment)
+                && this.equals(enrollment.getEvent())
                 && !enrollment.isAttended()
                 && enrollment.isAccepted();
     }
 
-    private List<Enrollment> getWaitingList() {
-        return this.enrollments.stream().filter(enrollment -> !enrollment.isAccepted()).collect(Collectors.toList());
-    }
-
-    public void acceptWaitingList() {
-        if (this.isAbleToAcceptWaitingEnrollment()) {
-            var waitingList = getWaitingList();
-            int numberToAccept = (int) Math.min(this.limitOfEnrollments - this.getNumberOfAcceptedEnrollments(), waitingList.size());
-            waitingList.subList(0, numberToAccept).forEach(e -> e.setAccepted(true));
-        }
-    }
-
-    public void acceptNextWaitingEnrollment() {
-        if (this.isAbleToAcceptWaitingEnrollment()) {
-            Enrollment enrollmentToAccept = this.getTheFirstWaitingEnrollment();
-            if (enrollmentToAccept != null) {
-                enrollmentToAccept.setAccepted(true);
-            }
-        }
-    }
-
-    private Enrollment getTheFirstWaitingEnrollment() {
-        for (Enrollment e : this.enrollments) {
-            if (!e.isAccepted()) {
-                return e;
-            }
-        }
-
-        return null;
-    }
-
-    public void accept(Enrollment enrollment) {
-        if (this.eventType == EventType.CONFIRMATIVE
-                && this.limitOfEnrollments > this.getNumberOfAcceptedEnrollments()) {
-            enrollment.setAccepted(true);
+    /**
+     * 다른 모임의 신청이거나 이미 수락된 신청이면 변경하지 않고 false (같은 요청을 반복해도 인원 수는 한 번만 바뀜)
+     */
+    public boolean accept(Enrollment enrollment) {
+        if (!canAccept(enrollment)) {
+            return false;
         }
+        enrollment.setAccepted(true);
+        this.acceptedCount++;
+        this.waitingCount--;
+        return true;
     }
 
-    public void reject(Enrollment enrollment) {
-        if (this.eventType == EventType.CONFIRMATIVE) {
-            enrollment.setAccepted(false);
+    public boolean reject(Enrollment enrollment) {
+        if (!canReject(enrollment)) {
+            return false;
         }
+        enrollment.setAccepted(false);
+        this.acceptedCount--;
+        this.waitingCount++;
+        return true;
     }
 }
@@ -0,0 +1,37 @@
+package com.lkj.study.modules.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 모임 목록 표시용 projection
+ * 신청 인원은 enrollments 컬렉션 대신 Event 의 확정/대기 인원 수 컬럼으로 계산
+ */
+@Getter
+@RequiredArgsConstructor
+public class EventCard {
+
+    private final Long id;
+
+    private final String title;
+
+    private final EventType eventType;
+
+    private final LocalDateTime endEnrollmentDateTime;
+
+    private final LocalDateTime startDateTime;
+
+    private final LocalDateTime endDateTime;
+
+    private final Integer limitOfEnrollments;
+
+    private final int acceptedCount;
+
+    private final int enrollmentCount;
+
+    public int numberOfRemainSpots() {
+        return this.limitOfEnrollments - this.acceptedCount;
+    }
+}
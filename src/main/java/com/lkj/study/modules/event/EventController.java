@@ -3,35 +3,58 @@ package com.lkj.study.modules.event;
 import com.lkj.study.modules.account.CurrentAccount;
 import com.lkj.study.modules.account.Account;
 import com.lkj.study.modules.study.Study;
+import com.lkj.study.modules.event.checkin.CheckInCodes;
+import com.lkj.study.modules.event.checkin.CheckInDesk;
+import com.lkj.study.modules.event.form.EnrollmentBatchForm;
 import com.lkj.study.modules.event.form.EventForm;
 import com.lkj.study.modules.event.validator.EventValidator;
-import com.lkj.study.modules.study.StudyRepository;
+import com.lkj.study.modules.study.StudyHeader;
 import com.lkj.study.modules.study.StudyService;
+import com.lkj.study.modules.study.StudySummary;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.Errors;
 import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.support.RequestContextUtils;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Controller
 @RequestMapping("/study/{path}")
 @RequiredArgsConstructor
 public class EventController {
 
+    static final int ROSTER_SIZE = 50;
+
+    static final String CONFLICT_MESSAGE = "다른 요청이 먼저 모임을 변경했습니다. 변경된 내용을 확인하고 다시 시도해 주세요.";
+
     private final StudyService studyService;
     private final EventService eventService;
     private final ModelMapper modelMapper;
     private final EventValidator eventValidator;
     private final EventRepository eventRepository;
-    private final StudyRepository studyRepository;
     private final EnrollmentRepository enrollmentRepository;
+    private final CheckInCodes checkInCodes;
+    private final CheckInDesk checkInDesk;
 
     @InitBinder("eventForm")
     public void initBinder(WebDataBinder webDataBinder) {
@@ -61,35 +84,50 @@ public class EventController {
         return "redirect:/study/" + study.getEncodedPath() + "/events/" + event.getId();
     }
 
+    /**
+     * 스터디는 이름과 관리자만 projection 으로, 참가 신청은 ROSTER_SIZE 건씩 페이지 단위로 조회
+     * 보는 계정의 신청은 (event_id, account_id) unique index 로, 대기 순번은 index 로 센 값으로 계산
+     */
     @GetMapping("/events/{id}")
-    public String getEvent(@CurrentAccount Account account, @PathVariable String path, @PathVariable("id") Event event,
-                           Model model) {
+    public String getEvent(@CurrentAccount Account account, @PathVariable String path, @PathVariable Long id,
+                           @RequestParam(defaultValue = "0") int page, Model model) {
+        StudyHeader study = studyService.getStudyHeaderWithManagers(path);
+        Event event = eventService.getEventToView(study, id);
+        Enrollment enrollment = account == null ? null : enrollmentRepository.findByEventAndAccount(event, account);
         model.addAttribute(account);
         model.addAttribute(event);
-        model.addAttribute(studyService.getStudy(path));
-        model.addAttribute(studyRepository.findStudyWithManagersByPath(path));
+        model.addAttribute("study", study);
+        model.addAttribute("enrollmentPage",
+                enrollmentRepository.findRoster(event, PageRequest.of(Math.max(page, 0), ROSTER_SIZE)));
+        model.addAttribute("enrollmentStatus", enrollment == null
+                ? Map.of() : Map.of(event.getId(), EnrollmentStatus.of(enrollment)));
+        model.addAttribute("waitingPosition", eventService.getWaitingPosition(enrollment));
+        model.addAttribute("checkInCode", enrollment != null && enrollment.isAccepted()
+                ? checkInCodes.codeOf(event.getId(), enrollment.getId()) : null);
+        model.addAttribute("checkInMode", checkInDesk.getRoster(event.getId()) != null);
         return "event/view";
     }
 
+    /**
+     * 새 모임은 모두, 지난 모임은 페이지 단위로 조회
+     */
     @GetMapping("/events")
-    public String viewStudyEvents(@CurrentAccount Account account, @PathVariable String path, Model model) {
-        Study study = studyService.getStudy(path);
+    public String viewStudyEvents(@CurrentAccount Account account, @PathVariable String path,
+                                  @PageableDefault(size = 10) Pageable pageable, Model model) {
+        StudyHeader study = studyService.getStudyHeader(path, false);
         model.addAttribute(account);
-        model.addAttribute(study);
+        model.addAttribute("study", study);
 
-        List<Event> events = eventRepository.findByStudyOrderByStartDateTime(study);
-        List<Event> newEvents = new ArrayList<>();
-        List<Event> oldEvents = new ArrayList<>();
-        events.forEach(e -> {
-            if (e.getEndDateTime().isBefore(LocalDateTime.now())) {
-                oldEvents.add(e);
-            } else {
-                newEvents.add(e);
-            }
-        });
+        LocalDateTime now = LocalDateTime.now();
+        List<EventCard> newEvents = eventRepository.findUpcomingEvents(study.getId(), now);
+        Page<EventCard> oldEventPage = eventRepository.findPastEvents(study.getId(), now, pageable);
+        List<Long> eventIds = Stream.concat(newEvents.stream(), oldEventPage.getContent().stream())
+                .map(EventCard::getId)
+                .collect(Collectors.toList());
 
         model.addAttribute("newEvents", newEvents);
-        model.addAttribute("oldEvents", oldEvents);
+        model.addAttribute("oldEventPage", oldEventPage);
+        model.addAttribute("enrollmentStatus", enrollmentRepository.findStatusByEvents(account, eventIds));
 
         return "study/events";
     }
@@ -134,19 +172,46 @@ public class EventController {
     @PostMapping("/events/{id}/enroll")
     public String newEnrollment(@CurrentAccount Account account,
                                 @PathVariable String path, @PathVariable("id") Event event) {
-        Study study = studyService.getStudyToEnroll(path);
-        eventService.newEnrollment(event, account);
+        StudySummary study = studyService.getStudyToEnroll(path);
+        try {
+            eventService.newEnrollment(event, account);
+        } catch (DuplicateEnrollmentException e) {
+            //같은 계정의 신청이 동시에 들어온 경우 -> 먼저 처리된 신청만 유지, 다른 제약 위반은 그대로 던짐
+        }
         return "redirect:/study/" + study.getEncodedPath() + "/events/" + event.getId();
     }
 
     @PostMapping("/events/{id}/disenroll")
     public String cancelEnrollment(@CurrentAccount Account account,
                                    @PathVariable String path, @PathVariable("id") Event event) {
-        Study study = studyService.getStudyToEnroll(path);
+        StudySummary study = studyService.getStudyToEnroll(path);
         eventService.cancelEnrollment(event, account);
         return "redirect:/study/" + study.getEncodedPath() + "/events/" + event.getId();
     }
 
+    /**
+     * 여러 참가 신청을 한 번에 처리, 관리자 확인은 요청마다 한 번
+     */
+    @PostMapping("/events/{id}/enrollments")
+    @ResponseBody
+    public ResponseEntity manageEnrollments(@CurrentAccount Account account, @PathVariable String path,
+                                            @PathVariable("id") Event event, @RequestBody EnrollmentBatchForm enrollmentBatchForm) {
+        Study study = studyService.getStudyToUpdateStatus(account, path);
+        if (!study.getId().equals(event.getStudy().getId())) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        try {
+            eventService.manageEnrollments(event, enrollmentBatchForm.getOperations());
+        } catch (IllegalStateException e) {
+            //체크인 모드 중 출석 여부 변경
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(CONFLICT_MESSAGE);
+        }
+        return ResponseEntity.ok().build();
+    }
+
     @GetMapping("events/{eventId}/enrollments/{enrollmentId}/accept")
     public String acceptEnrollment(@CurrentAccount Account account, @PathVariable String path,
                                    @PathVariable("eventId") Event event, @PathVariable("enrollmentId") Enrollment enrollment) {
@@ -179,4 +244,17 @@ public class EventController {
         return "redirect:/study/" + study.getEncodedPath() + "/events/" + event.getId();
     }
 
+    /**
+     * 다른 요청(참가 신청, 취소 등)이 먼저 모임을 수정해서 @Version 확인에 실패한 경우
+     * 변경 내용은 rollback 되었으므로 오류 화면 대신 모임 화면으로 돌아가서 바뀐 상태를 확인하고 다시 시도하도록 안내
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public String handleOptimisticLockingFailure(HttpServletRequest request) {
+        @SuppressWarnings("unchecked")
+        Map<String, String> variables = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        String eventId = variables.getOrDefault("id", variables.get("eventId"));
+        RequestContextUtils.getOutputFlashMap(request).put("message", CONFLICT_MESSAGE);
+        return "redirect:/study/" + URLEncoder.encode(variables.get("path"), StandardCharsets.UTF_8)
+                + "/events" + (eventId != null ? "/" + eventId : "");
+    }
 }
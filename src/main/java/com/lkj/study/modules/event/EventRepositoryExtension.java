@@ -0,0 +1,31 @@
+package com.lkj.study.modules.event;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Transactional
+public interface EventRepositoryExtension {
+
+    boolean reserveSeat(Event event);
+
+    void addWaiting(Event event);
+
+    void removeEnrollment(Event event, boolean accepted);
+
+    void moveToAccepted(Event event, int count);
+
+    void lockForUpdate(Event event);
+
+    @Transactional(readOnly = true)
+    Event findToView(Long studyId, Long id);
+
+    @Transactional(readOnly = true)
+    List<EventCard> findUpcomingEvents(Long studyId, LocalDateTime now);
+
+    @Transactional(readOnly = true)
+    Page<EventCard> findPastEvents(Long studyId, LocalDateTime now, Pageable pageable);
+}
@@ -0,0 +1,147 @@
+package com.lkj.study.modules.event;
+
+import com.lkj.study.modules.account.QAccount;
+import com.lkj.study.modules.study.QStudy;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.JPQLQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+import org.springframework.data.repository.support.PageableExecutionUtils;
+
+import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 확정/대기 인원 수를 엔티티에서 읽고 더해서 저장하면 동시에 들어온 신청끼리 같은 값을 읽어 정원을 넘길 수 있음
+ * DB 에서 조건부 UPDATE 로 한 번에 증가시키고(같은 모임 row 에 대한 UPDATE 는 DB 가 순서대로 실행), 갱신된 row 수로 성공 여부를 판단
+ * version 도 함께 올려서 변경 전 값을 들고 있는 Event 엔티티가 덮어쓰지 못하도록 하고, 현재 영속성 컨텍스트의 Event 는 다시 읽음
+ */
+public class EventRepositoryExtensionImpl extends QuerydslRepositorySupport implements EventRepositoryExtension {
+
+    public EventRepositoryExtensionImpl() {
+        super(Event.class);
+    }
+
+    /**
+     * 선착순 모임이고 남은 자리가 있으면 확정 인원 수를 1 증가
+     */
+    @Override
+    public boolean reserveSeat(Event event) {
+        QEvent qEvent = QEvent.event;
+        long updated = update(qEvent)
+                .set(qEvent.acceptedCount, qEvent.acceptedCount.add(1))
+                .set(qEvent.version, qEvent.version.add(1))
+                .where(qEvent.id.eq(event.getId())
+                        .and(qEvent.eventType.eq(EventType.FCFS))
+                        .and(qEvent.acceptedCount.lt(qEvent.limitOfEnrollments)))
+                .execute();
+        refresh(event);
+        return updated == 1;
+    }
+
+    @Override
+    public void addWaiting(Event event) {
+        QEvent qEvent = QEvent.event;
+        update(qEvent)
+                .set(qEvent.waitingCount, qEvent.waitingCount.add(1))
+                .set(qEvent.version, qEvent.version.add(1))
+                .where(qEvent.id.eq(event.getId()))
+                .execute();
+        refresh(event);
+    }
+
+    @Override
+    public void removeEnrollment(Event event, boolean accepted) {
+        QEvent qEvent = QEvent.event;
+        NumberPath<Integer> count = accepted ? qEvent.acceptedCount : qEvent.waitingCount;
+        update(qEvent)
+                .set(count, count.subtract(1))
+                .set(qEvent.version, qEvent.version.add(1))
+                .where(qEvent.id.eq(event.getId()))
+                .execute();
+        refresh(event);
+    }
+
+    /**
+     * 대기자 count 명을 확정으로 옮김(음수면 확정자를 대기로), lockForUpdate 로 모임 row 를 잡은 상태에서 호출
+     */
+    @Override
+    public void moveToAccepted(Event event, int count) {
+        QEvent qEvent = QEvent.event;
+        update(qEvent)
+                .set(qEvent.acceptedCount, qEvent.acceptedCount.add(count))
+                .set(qEvent.waitingCount, qEvent.waitingCount.subtract(count))
+                .set(qEvent.version, qEvent.version.add(1))
+                .where(qEvent.id.eq(event.getId()))
+                .execute();
+        refresh(event);
+    }
+
+    /**
+     * 변경 내용을 반영한 뒤 모임 row 에 쓰기 lock(select ... for update)을 걸고 최신 값으로 다시 읽음
+     * commit 전까지 같은 모임의 참가 신청/취소/대기자 확정은 순서대로 실행됨
+     */
+    @Override
+    public void lockForUpdate(Event event) {
+        getEntityManager().flush();
+        getEntityManager().refresh(event, LockModeType.PESSIMISTIC_WRITE);
+    }
+
+    /**
+     * 모임 조회 화면용, 모임 + 만든 사람을 조회하고 다른 스터디의 모임이면 null
+     * study 는 EAGER 라서 join 하지 않으면 따로 select 가 나가므로 같은 쿼리에서 row 만 읽음(컬렉션은 읽지 않음)
+     * 참가 신청은 EnrollmentRepository.findRoster 로 페이지 단위로 조회
+     */
+    @Override
+    public Event findToView(Long studyId, Long id) {
+        QEvent qEvent = QEvent.event;
+        return from(qEvent)
+                .join(qEvent.study, QStudy.study).fetchJoin()
+                .leftJoin(qEvent.createdBy, QAccount.account).fetchJoin()
+                .where(qEvent.id.eq(id).and(QStudy.study.id.eq(studyId)))
+                .fetchOne();
+    }
+
+    /**
+     * 새 모임/지난 모임을 자바에서 나누지 않고 (study_id, endDateTime) index 로 DB 에서 나눠서 조회
+     * 새 모임은 개수가 적으므로 모두, 지난 모임은 계속 쌓이므로 최근에 끝난 순서로 페이징
+     */
+    @Override
+    public List<EventCard> findUpcomingEvents(Long studyId, LocalDateTime now) {
+        QEvent qEvent = QEvent.event;
+        return from(qEvent).select(eventCard(qEvent))
+                .where(qEvent.study.id.eq(studyId).and(qEvent.endDateTime.goe(now)))
+                .orderBy(qEvent.startDateTime.asc(), qEvent.id.asc())
+                .fetch();
+    }
+
+    @Override
+    public Page<EventCard> findPastEvents(Long studyId, LocalDateTime now, Pageable pageable) {
+        QEvent qEvent = QEvent.event;
+        JPQLQuery<EventCard> query = from(qEvent).select(eventCard(qEvent))
+                .where(qEvent.study.id.eq(studyId).and(qEvent.endDateTime.lt(now)))
+                .orderBy(qEvent.endDateTime.desc(), qEvent.id.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize());
+        return PageableExecutionUtils.getPage(query.fetch(), pageable, () -> from(qEvent)
+                .where(qEvent.study.id.eq(studyId).and(qEvent.endDateTime.lt(now)))
+                .fetchCount());
+    }
+
+    private Expression<EventCard> eventCard(QEvent qEvent) {
+        return Projections.constructor(EventCard.class,
+                qEvent.id, qEvent.title, qEvent.eventType, qEvent.endEnrollmentDateTime,
+                qEvent.startDateTime, qEvent.endDateTime, qEvent.limitOfEnrollments,
+                qEvent.acceptedCount, qEvent.acceptedCount.add(qEvent.waitingCount));
+    }
+
+    private void refresh(Event event) {
+        if (getEntityManager().contains(event)) {
+            getEntityManager().refresh(event);
+        }
+    }
+}
@@ -2,17 +2,30 @@ package com.lkj.study.modules.event;
 
 import com.lkj.study.modules.account.Account;
 import com.lkj.study.modules.event.event.EnrollmentAcceptedEvent;
+import com.lkj.study.modules.event.event.EnrollmentBatchEvent;
 import com.lkj.study.modules.event.event.EnrollmentRejectedEvent;
+import com.lkj.study.modules.event.checkin.CheckInDesk;
 import com.lkj.study.modules.study.Study;
+import com.lkj.study.modules.study.StudyHeader;
+import com.lkj.study.modules.event.form.EnrollmentOperationForm;
 import com.lkj.study.modules.event.form.EventForm;
 import com.lkj.study.modules.study.event.StudyUpdateEvent;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
 import org.modelmapper.ModelMapper;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
@@ -23,6 +36,7 @@ public class EventService {
     private final ModelMapper modelMapper;
     private final EnrollmentRepository enrollmentRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final CheckInDesk checkInDesk;
 
     public Event createEvent(Event event, Study study, Account account) {
         event.setCreatedBy(account);
@@ -35,7 +49,7 @@ public class EventService {
 
     public void updateEvent(Event event, EventForm eventForm) {
         modelMapper.map(eventForm, event);
-        event.acceptWaitingList();
+        acceptWaitingList(event);
         eventPublisher.publishEvent(new StudyUpdateEvent(event.getStudy(),
                 "'" + event.getTitle() + "' 모임 정보를 수정했으니 확인하세요."));
     }
@@ -46,42 +60,201 @@ public class EventService {
                 "'" + event.getTitle() + "' 모임을 취소했습니다."));
     }
 
+    /**
+     * 선착순 자리는 DB 의 조건부 UPDATE 로 확보(동시에 신청해도 정원을 넘지 않음)
+     * 같은 계정의 중복 신청은 (event, account) unique 제약으로 막고, 이 경우 DataIntegrityViolationException 과 함께 전체 rollback
+     * event.enrollments 컬렉션은 로딩하지 않음
+     */
     public void newEnrollment(Event event, Account account) {
         if (!enrollmentRepository.existsByEventAndAccount(event, account)) {
+            boolean accepted = event.getEventType() == EventType.FCFS && eventRepository.reserveSeat(event);
+            if (!accepted) {
+                eventRepository.addWaiting(event);
+            }
+
             Enrollment enrollment = new Enrollment();
             enrollment.setEnrolledAt(LocalDateTime.now());
-            enrollment.setAccepted(event.isAbleToAcceptWaitingEnrollment());
+            enrollment.setAccepted(accepted);
             enrollment.setAccount(account);
-            event.addEnrollment(enrollment);
-            enrollmentRepository.save(enrollment);
+            enrollment.setEvent(event);
+            try {
+                enrollmentRepository.saveAndFlush(enrollment);
+            } catch (DataIntegrityViolationException e) {
+                if (isDuplicateEnrollment(e)) {
+                    throw new DuplicateEnrollmentException(e);
+                }
+                throw e;
+            }
         }
     }
 
+    /**
+     * 제약 이름은 DB 마다 대소문자가 다르게 나옴(H2 는 대문자)
+     */
+    private boolean isDuplicateEnrollment(DataIntegrityViolationException e) {
+        return e.getCause() instanceof ConstraintViolationException
+                && ((ConstraintViolationException) e.getCause()).getConstraintName() != null
+                && ((ConstraintViolationException) e.getCause()).getConstraintName().toLowerCase()
+                        .contains(Enrollment.UNIQUE_EVENT_ACCOUNT);
+    }
+
+    /**
+     * 대기자 확정(acceptWaitingList)과 같은 순서로 모임 row -> 참가 신청 row 순서로 lock
+     * 참가 신청을 먼저 지우면 다른 취소 요청의 대기자 확정과 lock 순서가 반대가 되어 deadlock 이 생길 수 있음
+     */
     public void cancelEnrollment(Event event, Account account) {
+        eventRepository.lockForUpdate(event);
         Enrollment enrollment = enrollmentRepository.findByEventAndAccount(event, account);
 
-        if (!enrollment.isAttended()) {
-            event.removeEnrollment(enrollment);
+        if (enrollment != null && !enrollment.isAttended()) {
             enrollmentRepository.delete(enrollment);
-            event.acceptNextWaitingEnrollment();
+            enrollmentRepository.flush();
+            eventRepository.removeEnrollment(event, enrollment.isAccepted());
+            acceptWaitingList(event);
+        }
+    }
+
+    /**
+     * 선착순 모임의 남은 자리만큼 먼저 신청한 대기자를 확정
+     * 모임 row 에 lock 을 건 뒤 (event_id, accepted, enrolledAt) 순서로 대기자 id 를 조회하고 UPDATE 한 번으로 확정
+     * 모임의 인원 수는 실제로 확정된 row 수만큼 옮김
+     */
+    private void acceptWaitingList(Event event) {
+        if (event.getEventType() != EventType.FCFS) {
+            return;
+        }
+
+        eventRepository.lockForUpdate(event);
+        int numberToAccept = Math.min(event.numberOfRemainSpots(), event.getWaitingCount());
+        if (numberToAccept <= 0) {
+            return;
+        }
+
+        List<Long> waitingIds = enrollmentRepository.findWaitingIds(event, numberToAccept);
+        int accepted = enrollmentRepository.acceptAll(waitingIds);
+        if (accepted > 0) {
+            eventRepository.moveToAccepted(event, accepted);
         }
     }
 
+    /**
+     * 모임 조회 화면용, 다른 스터디의 모임이면 조회할 수 없음
+     */
+    @Transactional(readOnly = true)
+    public Event getEventToView(StudyHeader study, Long id) {
+        Event event = eventRepository.findToView(study.getId(), id);
+        if (event == null) {
+            throw new IllegalArgumentException(study.getPath() + "에 해당하는 모임이 없습니다.");
+        }
+        return event;
+    }
+
+    /**
+     * 대기 중인 신청이면 대기 순번(1부터), 신청하지 않았거나 확정된 경우 null
+     */
+    @Transactional(readOnly = true)
+    public Long getWaitingPosition(Enrollment enrollment) {
+        if (enrollment == null || enrollment.isAccepted()) {
+            return null;
+        }
+        return enrollmentRepository.countWaitingBefore(enrollment) + 1;
+    }
+
+    /**
+     * 모임 id 와 신청 id 를 따로 받으므로 다른 모임의 신청이면 인원 수를 바꾸지 않고 IllegalArgumentException
+     * 상태가 실제로 바뀐 경우에만 알림
+     */
     public void acceptEnrollment(Event event, Enrollment enrollment) {
-        event.accept(enrollment);
-        eventPublisher.publishEvent(new EnrollmentAcceptedEvent(enrollment));
+        checkEnrollmentOf(event, enrollment);
+        if (event.accept(enrollment)) {
+            eventPublisher.publishEvent(new EnrollmentAcceptedEvent(enrollment));
+        }
     }
 
     public void rejectEnrollment(Event event, Enrollment enrollment) {
-        event.reject(enrollment);
-        eventPublisher.publishEvent(new EnrollmentRejectedEvent(enrollment));
+        checkEnrollmentOf(event, enrollment);
+        if (event.reject(enrollment)) {
+            eventPublisher.publishEvent(new EnrollmentRejectedEvent(enrollment));
+        }
+    }
+
+    private void checkEnrollmentOf(Event event, Enrollment enrollment) {
+        if (!event.equals(enrollment.getEvent())) {
+            throw new IllegalArgumentException("해당 모임의 참가 신청이 아닙니다.");
+        }
+    }
+
+    /**
+     * 관리자가 여러 참가 신청을 한 번에 수락/거절/체크인/체크인 취소
+     * - 같은 신청에 여러 작업이 들어오면 마지막 작업만 반영
+     * - 모임 row 에 lock 을 건 뒤 작업별로 대상 id 를 조회하고 UPDATE 한 번씩 실행, 이 모임의 신청이 아닌 id 는 무시
+ *   모임의 인원 수는 실제로 바뀐 row 수만큼 옮김
+     * - 거절을 먼저 반영하고 남은 자리만큼 먼저 신청한 순서로 수락
+     * - 수락/거절 알림은 이벤트 한 번으로 모아서 발생
+     * - 체크인 모드 중에는 체크인/체크인 취소를 반영하지 않고 IllegalStateException
+     */
+    public void manageEnrollments(Event event, List<EnrollmentOperationForm> operations) {
+        Map<EnrollmentOperation, List<Long>> idsByOperation = operations.stream()
+                .filter(o -> o.getEnrollmentId() != null && o.getOperation() != null)
+                .collect(Collectors.toMap(EnrollmentOperationForm::getEnrollmentId, EnrollmentOperationForm::getOperation,
+                        (first, last) -> last, LinkedHashMap::new))
+                .entrySet().stream()
+                .collect(Collectors.groupingBy(Map.Entry::getValue, () -> new EnumMap<>(EnrollmentOperation.class),
+                        Collectors.mapping(Map.Entry::getKey, Collectors.toList())));
+        if (idsByOperation.isEmpty()) {
+            return;
+        }
+
+        checkAttendanceEditable(event, Stream.of(EnrollmentOperation.CHECK_IN, EnrollmentOperation.CANCEL_CHECK_IN)
+                .flatMap(operation -> idsByOperation.getOrDefault(operation, Collections.emptyList()).stream())
+                .collect(Collectors.toList()));
+
+        eventRepository.lockForUpdate(event);
+        List<Long> rejectedIds = Collections.emptyList();
+        List<Long> acceptedIds = Collections.emptyList();
+        if (event.getEventType() == EventType.CONFIRMATIVE) {
+            rejectedIds = enrollmentRepository.findIdsToReject(event,
+                    idsByOperation.getOrDefault(EnrollmentOperation.REJECT, Collections.emptyList()));
+            acceptedIds = enrollmentRepository.findIdsToAccept(event,
+                    idsByOperation.getOrDefault(EnrollmentOperation.ACCEPT, Collections.emptyList()),
+                    event.numberOfRemainSpots() + rejectedIds.size());
+        }
+
+        int rejected = rejectedIds.isEmpty() ? 0 : enrollmentRepository.rejectAll(rejectedIds);
+        int accepted = acceptedIds.isEmpty() ? 0 : enrollmentRepository.acceptAll(acceptedIds);
+        if (accepted != rejected) {
+            eventRepository.moveToAccepted(event, accepted - rejected);
+        }
+        updateAttended(event, idsByOperation.get(EnrollmentOperation.CHECK_IN), true);
+        updateAttended(event, idsByOperation.get(EnrollmentOperation.CANCEL_CHECK_IN), false);
+
+        if (!acceptedIds.isEmpty() || !rejectedIds.isEmpty()) {
+            eventPublisher.publishEvent(new EnrollmentBatchEvent(event.getId(), acceptedIds, rejectedIds));
+        }
+    }
+
+    private void updateAttended(Event event, List<Long> ids, boolean attended) {
+        if (ids != null && !ids.isEmpty()) {
+            enrollmentRepository.updateAttended(event, ids, attended);
+        }
     }
 
     public void checkInEnrollment(Enrollment enrollment) {
+        checkAttendanceEditable(enrollment.getEvent(), List.of(enrollment.getId()));
         enrollment.setAttended(true);
     }
 
     public void cancelCheckInEnrollment(Enrollment enrollment) {
+        checkAttendanceEditable(enrollment.getEvent(), List.of(enrollment.getId()));
         enrollment.setAttended(false);
     }
+
+    /**
+     * 체크인 모드 중에는 출석 여부를 체크인 명단(CheckInDesk)에서만 변경
+     */
+    private void checkAttendanceEditable(Event event, List<Long> enrollmentIds) {
+        if (!enrollmentIds.isEmpty() && checkInDesk.isAttendanceLocked(event.getId(), enrollmentIds)) {
+            throw new IllegalStateException("체크인 모드 중에는 출석 여부를 변경할 수 없습니다.");
+        }
+    }
 }
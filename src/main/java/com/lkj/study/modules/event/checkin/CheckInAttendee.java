@@ -0,0 +1,18 @@
+package com.lkj.study.modules.event.checkin;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 체크인 명단 한 줄, 확정된 참가 신청과 신청한 계정의 닉네임
+ */
+@Getter
+@RequiredArgsConstructor
+public class CheckInAttendee {
+
+    private final Long enrollmentId;
+
+    private final String nickname;
+
+    private final boolean attended;
+}
@@ -0,0 +1,55 @@
+package com.lkj.study.modules.event.checkin;
+
+import com.lkj.study.infra.config.AppProperties;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+
+/**
+ * 참가자가 입구에서 보여주는 짧은 체크인 코드
+ * (모임 id, 참가 신청 id) 를 서버의 key 로 서명(HMAC-SHA256)한 값의 앞부분이므로 신청 id 만으로는 다른 사람의 코드를 만들 수 없음
+ * 헷갈리는 글자(0, O, 1, I)를 뺀 32 글자로 8자리
+ * 신청 id 는 순번이라 key 를 알면 모든 코드를 만들 수 있으므로 key(app.check-in-secret)는 저장소에 넣지 않고
+ * 환경 변수(CHECK_IN_SECRET)나 application-local.properties 로 설정, 없으면 시작하지 않음
+ */
+@Component
+public class CheckInCodes {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private static final String ALPHABET = "ABCDEFGHJKLMNPQRSTUVWXYZ23456789";
+
+    private static final int LENGTH = 8;
+
+    private final SecretKeySpec key;
+
+    public CheckInCodes(AppProperties appProperties) {
+        String secret = appProperties.getCheckInSecret();
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalStateException("app.check-in-secret 이 설정되지 않았습니다. CHECK_IN_SECRET 환경 변수로 설정하세요.");
+        }
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+    }
+
+    public String codeOf(Long eventId, Long enrollmentId) {
+        byte[] signature = sign(eventId + ":" + enrollmentId);
+        StringBuilder code = new StringBuilder(LENGTH);
+        for (int i = 0; i < LENGTH; i++) {
+            code.append(ALPHABET.charAt(signature[i] & (ALPHABET.length() - 1)));
+        }
+        return code.toString();
+    }
+
+    private byte[] sign(String value) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(value.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.lkj.study.modules.event.checkin;
+
+import com.lkj.study.modules.account.Account;
+import com.lkj.study.modules.account.CurrentAccount;
+import com.lkj.study.modules.event.Event;
+import com.lkj.study.modules.event.form.CheckInForm;
+import com.lkj.study.modules.study.Study;
+import com.lkj.study.modules.study.StudyService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.stream.Collectors;
+
+/**
+ * 체크인 모드 시작/종료만 스터디 관리자를 DB 에서 확인하고, 체크인 요청은 메모리의 명단으로 처리
+ */
+@Controller
+@RequestMapping("/study/{path}/events/{id}")
+@RequiredArgsConstructor
+public class CheckInController {
+
+    private final StudyService studyService;
+    private final CheckInDesk checkInDesk;
+
+    @PostMapping("/check-in-mode")
+    public String openCheckInMode(@CurrentAccount Account account, @PathVariable String path,
+                                  @PathVariable("id") Event event) {
+        Study study = studyService.getStudyToUpdateStatus(account, path);
+        if (!study.getId().equals(event.getStudy().getId())) {
+            throw new IllegalArgumentException(path + "에 해당하는 모임이 없습니다.");
+        }
+
+        checkInDesk.open(event, study.getManagers().stream().map(Account::getId).collect(Collectors.toSet()));
+        return "redirect:/study/" + study.getEncodedPath() + "/events/" + event.getId() + "/check-in";
+    }
+
+    @GetMapping("/check-in")
+    public String checkInForm(@CurrentAccount Account account, @PathVariable String path, @PathVariable Long id,
+                              Model model) {
+        CheckInRoster roster = getRosterToCheckIn(account, id);
+        if (roster == null) {
+            return "redirect:/study/" + studyService.getStudyToEnroll(path).getEncodedPath() + "/events/" + id;
+        }
+
+        model.addAttribute(account);
+        model.addAttribute("path", path);
+        model.addAttribute("roster", roster);
+        return "event/check-in";
+    }
+
+    @PostMapping("/check-in")
+    @ResponseBody
+    public ResponseEntity<CheckInResult> checkIn(@CurrentAccount Account account, @PathVariable Long id,
+                                                 @RequestBody CheckInForm checkInForm) {
+        CheckInRoster roster = checkInDesk.getRoster(id);
+        if (roster == null) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        if (!roster.isManager(account.getId())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        return ResponseEntity.ok(checkInDesk.checkIn(roster, checkInForm.getKey()));
+    }
+
+    @DeleteMapping("/check-in-mode")
+    public String closeCheckInMode(@CurrentAccount Account account, @PathVariable String path, @PathVariable Long id) {
+        if (getRosterToCheckIn(account, id) != null) {
+            checkInDesk.close(id);
+        }
+        return "redirect:/study/" + studyService.getStudyToEnroll(path).getEncodedPath() + "/events/" + id;
+    }
+
+    /**
+     * 체크인 모드가 아니면 null
+     */
+    private CheckInRoster getRosterToCheckIn(Account account, Long eventId) {
+        CheckInRoster roster = checkInDesk.getRoster(eventId);
+        if (roster != null && !roster.isManager(account.getId())) {
+            throw new AccessDeniedException("해당 기능을 사용할 수 없습니다.");
+        }
+        return roster;
+    }
+}
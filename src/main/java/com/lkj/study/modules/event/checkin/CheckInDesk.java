@@ -0,0 +1,124 @@
+package com.lkj.study.modules.event.checkin;
+
+import com.lkj.study.modules.event.EnrollmentRepository;
+import com.lkj.study.modules.event.Event;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 입구 체크인 모드
+ * 체크인 요청마다 스터디, 모임, 참가 신청을 DB 에서 읽고 쓰지 않도록
+ * - 체크인 모드를 시작할 때 모임의 확정자 명단과 관리자 id 를 메모리에 올려 두고 체크인은 명단에서 처리
+ * - 체크인 기록은 journal 에 남긴 뒤 응답하고, DB 에는 FLUSH_INTERVAL_MILLIS 마다 모아서 UPDATE(write-behind)
+ * 다른 경로(참가 신청 관리 화면)에서 출석 여부를 DB 에 바로 쓰면 아직 반영되지 않은 journal 이 나중에 덮어쓰므로
+ * 체크인 모드 중이거나 반영되지 않은 기록이 남은 신청은 isAttendanceLocked 로 확인해서 변경하지 않음
+ * 닫지 않은 체크인 모드는 모임이 끝나면(endDateTime) 만료되어 명단을 버리고 출석 여부 변경을 다시 허용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CheckInDesk {
+
+    static final long FLUSH_INTERVAL_MILLIS = 1000;
+
+    static final int FLUSH_BATCH_SIZE = 500;
+
+    static final long EXPIRE_INTERVAL_MILLIS = 60 * 1000;
+
+    private final EnrollmentRepository enrollmentRepository;
+    private final CheckInCodes checkInCodes;
+    private final CheckInJournal checkInJournal;
+
+    private final Map<Long, CheckInRoster> rosterByEventId = new ConcurrentHashMap<>();
+
+    public CheckInRoster open(Event event, Set<Long> managerIds) {
+        CheckInRoster roster = new CheckInRoster(event.getId(), event.getTitle(), event.getEndDateTime(), managerIds,
+                enrollmentRepository.findCheckInAttendees(event), checkInCodes);
+        rosterByEventId.put(event.getId(), roster);
+        return roster;
+    }
+
+    /**
+     * 만료된 명단은 정리 전이라도 없는 것으로 봄
+     */
+    public CheckInRoster getRoster(Long eventId) {
+        CheckInRoster roster = rosterByEventId.get(eventId);
+        return roster != null && !roster.isExpired(LocalDateTime.now()) ? roster : null;
+    }
+
+    public boolean isAttendanceLocked(Long eventId, Collection<Long> enrollmentIds) {
+        return getRoster(eventId) != null || checkInJournal.containsAny(enrollmentIds);
+    }
+
+    @Scheduled(fixedDelay = EXPIRE_INTERVAL_MILLIS)
+    public void evictExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        rosterByEventId.values().removeIf(roster -> {
+            if (roster.isExpired(now)) {
+                log.info("check-in mode of event {} expired", roster.getEventId());
+                return true;
+            }
+            return false;
+        });
+    }
+
+    public void close(Long eventId) {
+        rosterByEventId.remove(eventId);
+        flush();
+    }
+
+    /**
+     * journal 에 기록하지 못하면 체크인하지 않은 상태로 되돌리고 예외를 그대로 던짐
+     */
+    public CheckInResult checkIn(CheckInRoster roster, String key) {
+        CheckInAttendee attendee = roster.find(key);
+        if (attendee == null) {
+            return new CheckInResult(CheckInResult.Status.NOT_FOUND, null, roster.getAttendedCount(), roster.size());
+        }
+        if (!roster.markAttended(attendee)) {
+            return new CheckInResult(CheckInResult.Status.ALREADY_CHECKED_IN, attendee.getNickname(),
+                    roster.getAttendedCount(), roster.size());
+        }
+
+        try {
+            checkInJournal.append(attendee.getEnrollmentId());
+        } catch (RuntimeException e) {
+            roster.unmarkAttended(attendee);
+            throw e;
+        }
+        return new CheckInResult(CheckInResult.Status.CHECKED_IN, attendee.getNickname(),
+                roster.getAttendedCount(), roster.size());
+    }
+
+    /**
+     * 실패하면 journal 을 지우지 않으므로 다음 flush 때 같은 id 로 다시 UPDATE (이미 출석이면 변경 없음)
+     */
+    @PreDestroy
+    @Scheduled(fixedDelay = FLUSH_INTERVAL_MILLIS)
+    public synchronized void flush() {
+        List<Long> ids = checkInJournal.seal();
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        try {
+            for (int from = 0; from < ids.size(); from += FLUSH_BATCH_SIZE) {
+                enrollmentRepository.checkInAll(ids.subList(from, Math.min(from + FLUSH_BATCH_SIZE, ids.size())));
+            }
+            checkInJournal.commit();
+            log.debug("{} check-ins flushed", ids.size());
+        } catch (RuntimeException e) {
+            log.error("failed to flush {} check-ins, will retry", ids.size(), e);
+        }
+    }
+}
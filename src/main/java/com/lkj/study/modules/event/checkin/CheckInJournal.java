@@ -0,0 +1,220 @@
+package com.lkj.study.modules.event.checkin;
+
+import com.lkj.study.infra.config.AppProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 체크인 write-behind 용 journal
+ * 체크인 응답 전에 참가 신청 id 를 파일에 쓰고 디스크까지 반영(fsync)하므로, DB 에 반영하기 전에 서버가 죽어도 응답한 체크인은 남음
+ * - append : 현재 segment 파일에 기록하고 fsync 가 끝난 뒤 반환
+ *   새 segment 를 만들면 디렉토리도 fsync 해서 전원이 나가도 파일 자체가 사라지지 않도록 함
+ * - seal : 현재 segment 를 fsync 후 닫고 새 segment 를 열어서, 닫힌 segment 들의 id 를 DB 반영 대상으로 넘김
+ * - commit : DB 반영이 끝난 segment 파일 삭제, 실패하면 삭제하지 않으므로 다음 seal 때 다시 반영 대상이 됨
+ * 시작할 때 남아있는 segment 는 DB 에 반영되지 않은 것이므로 닫힌 segment 로 읽어 둠
+ * 저장 경로 : {app.check-in-directory}/{시작 시각}-{순번}.log
+ *
+ * fsync 는 group commit
+ * 쓰기는 journal lock 안에서 하고 fsync 는 lock 밖에서 한 번에 하나만 실행, fsync 를 기다리는 동안 쓰인 기록은
+ * 다음 fsync 한 번으로 함께 반영되므로 여러 모임의 체크인이 몰려도 체크인마다 디스크 flush 를 기다리며 줄 서지 않음
+ */
+@Slf4j
+@Component
+public class CheckInJournal {
+
+    private static final String SUFFIX = ".log";
+
+    private final Path directory;
+
+    private final String prefix = System.currentTimeMillis() + "-";
+
+    private int sequence;
+
+    private Path current;
+
+    private FileChannel channel;
+
+    private final Set<Long> currentIds = new HashSet<>();
+
+    private final List<Path> sealed = new ArrayList<>();
+
+    private final Set<Long> sealedIds = new HashSet<>();
+
+    /**
+     * 지금까지 쓴 기록 수, journal lock 안에서만 변경
+     */
+    private long writtenCount;
+
+    /**
+     * 디스크까지 반영된 기록 수
+     */
+    private final AtomicLong syncedCount = new AtomicLong();
+
+    private final Object syncLock = new Object();
+
+    public CheckInJournal(AppProperties appProperties) {
+        this.directory = Paths.get(appProperties.getCheckInDirectory()).toAbsolutePath();
+        try {
+            Files.createDirectories(directory);
+            recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void append(Long enrollmentId) {
+        sync(write(enrollmentId));
+    }
+
+    private synchronized long write(Long enrollmentId) {
+        try {
+            if (channel == null) {
+                current = directory.resolve(prefix + (sequence++) + SUFFIX);
+                channel = FileChannel.open(current, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+                syncDirectory();
+            }
+            channel.write(ByteBuffer.wrap((enrollmentId + "\n").getBytes(StandardCharsets.US_ASCII)));
+            currentIds.add(enrollmentId);
+            return ++writtenCount;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * count 번째 기록까지 디스크에 반영될 때까지 대기
+     * 먼저 fsync 를 시작한 쪽이 그 시점까지 쓰인 기록을 모두 반영하므로 뒤에서 기다리던 쪽은 대부분 바로 반환
+     * fsync 중에 seal 이 segment 를 닫으면 seal 이 닫기 전에 fsync 한 것이므로 다시 확인만 함
+     */
+    private void sync(long count) {
+        synchronized (syncLock) {
+            if (syncedCount.get() >= count) {
+                return;
+            }
+
+            FileChannel target;
+            long targetCount;
+            synchronized (this) {
+                target = channel;
+                targetCount = writtenCount;
+            }
+            try {
+                if (target != null) {
+                    target.force(false);
+                }
+                syncedCount.accumulateAndGet(targetCount, Math::max);
+            } catch (ClosedChannelException e) {
+                if (syncedCount.get() < count) {
+                    throw new UncheckedIOException(e);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * 새로 만든 파일의 디렉토리 항목까지 디스크에 반영
+     */
+    private void syncDirectory() throws IOException {
+        try (FileChannel directoryChannel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            directoryChannel.force(true);
+        }
+    }
+
+    public synchronized List<Long> seal() {
+        if (channel != null) {
+            try {
+                channel.force(false);
+                syncedCount.accumulateAndGet(writtenCount, Math::max);
+            } catch (IOException e) {
+                // 닫지 않고 다음 seal 때 다시 시도, 기다리는 append 는 직접 fsync 함
+                log.warn("failed to sync check-in journal {}", current, e);
+                return List.copyOf(sealedIds);
+            }
+            closeChannel();
+            sealed.add(current);
+            sealedIds.addAll(currentIds);
+            currentIds.clear();
+        }
+        return List.copyOf(sealedIds);
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은(commit 전) 체크인 기록이 있는지
+     */
+    public synchronized boolean containsAny(Collection<Long> enrollmentIds) {
+        return enrollmentIds.stream().anyMatch(id -> currentIds.contains(id) || sealedIds.contains(id));
+    }
+
+    public synchronized void commit() {
+        for (Path path : sealed) {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                log.warn("failed to delete check-in journal {}", path, e);
+            }
+        }
+        sealed.clear();
+        sealedIds.clear();
+    }
+
+    /**
+     * DB 에 반영하지 못한 기록은 파일로 남아서 다음 시작 때 다시 읽음
+     */
+    @PreDestroy
+    public synchronized void close() {
+        if (channel != null) {
+            closeChannel();
+        }
+    }
+
+    private void closeChannel() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("failed to close check-in journal {}", current, e);
+        }
+        channel = null;
+    }
+
+    /**
+     * 마지막 줄은 fsync 전에 죽어서 잘려 있을 수 있음 -> 응답하지 않은 체크인이므로 무시
+     */
+    private void recover() throws IOException {
+        try (DirectoryStream<Path> paths = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+            for (Path path : paths) {
+                for (String line : Files.readAllLines(path, StandardCharsets.US_ASCII)) {
+                    try {
+                        sealedIds.add(Long.valueOf(line.trim()));
+                    } catch (NumberFormatException e) {
+                        log.warn("skip broken check-in journal line '{}' in {}", line, path);
+                    }
+                }
+                sealed.add(path);
+            }
+        }
+        if (!sealedIds.isEmpty()) {
+            log.info("{} check-ins recovered from journal", sealedIds.size());
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.lkj.study.modules.event.checkin;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class CheckInResult {
+
+    public enum Status {
+        CHECKED_IN, ALREADY_CHECKED_IN, NOT_FOUND
+    }
+
+    private final Status status;
+
+    private final String nickname;
+
+    private final int attendedCount;
+
+    private final int total;
+}
@@ -0,0 +1,132 @@
+package com.lkj.study.modules.event.checkin;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 체크인 모드를 시작할 때 읽어 둔 모임의 확정자 명단
+ * 참가 신청 id, 닉네임, 체크인 코드로 찾을 수 있도록 미리 색인해 두고 체크인 여부만 메모리에서 변경
+ * 체크인 모드 중에 새로 확정된 신청은 체크인 모드를 다시 시작해야 명단에 들어감
+ * 모임이 끝나면(endDateTime) 만료되어 CheckInDesk 에서 정리됨
+ */
+@Slf4j
+public class CheckInRoster {
+
+    private final Long eventId;
+
+    private final String eventTitle;
+
+    private final LocalDateTime endDateTime;
+
+    private final Set<Long> managerIds;
+
+    private final Map<Long, CheckInAttendee> attendeeByEnrollmentId;
+
+    private final Map<String, CheckInAttendee> attendeeByNickname;
+
+    private final Map<String, CheckInAttendee> attendeeByCode;
+
+    private final Set<Long> attendedEnrollmentIds = ConcurrentHashMap.newKeySet();
+
+    CheckInRoster(Long eventId, String eventTitle, LocalDateTime endDateTime, Set<Long> managerIds,
+                  List<CheckInAttendee> attendees, CheckInCodes checkInCodes) {
+        this.eventId = eventId;
+        this.eventTitle = eventTitle;
+        this.endDateTime = endDateTime;
+        this.managerIds = Set.copyOf(managerIds);
+        this.attendeeByEnrollmentId = attendees.stream()
+                .collect(Collectors.toUnmodifiableMap(CheckInAttendee::getEnrollmentId, Function.identity()));
+        this.attendeeByNickname = attendees.stream()
+                .collect(Collectors.toUnmodifiableMap(CheckInAttendee::getNickname, Function.identity()));
+        this.attendeeByCode = indexByCode(eventId, attendees, checkInCodes);
+        attendees.stream()
+                .filter(CheckInAttendee::isAttended)
+                .forEach(a -> attendedEnrollmentIds.add(a.getEnrollmentId()));
+    }
+
+    /**
+     * 8자리 코드는 드물게 겹칠 수 있음 -> 겹친 코드는 누구인지 정할 수 없으므로 명단에서 빼고 닉네임이나 신청 id 로 체크인
+     */
+    private static Map<String, CheckInAttendee> indexByCode(Long eventId, List<CheckInAttendee> attendees,
+                                                            CheckInCodes checkInCodes) {
+        Map<String, CheckInAttendee> attendeeByCode = new HashMap<>();
+        Set<String> duplicatedCodes = new HashSet<>();
+        for (CheckInAttendee attendee : attendees) {
+            String code = checkInCodes.codeOf(eventId, attendee.getEnrollmentId());
+            if (attendeeByCode.putIfAbsent(code, attendee) != null) {
+                duplicatedCodes.add(code);
+            }
+        }
+        if (!duplicatedCodes.isEmpty()) {
+            log.warn("event {} has {} duplicated check-in codes, use nickname instead", eventId, duplicatedCodes.size());
+            attendeeByCode.keySet().removeAll(duplicatedCodes);
+        }
+        return Map.copyOf(attendeeByCode);
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public String getEventTitle() {
+        return eventTitle;
+    }
+
+    /**
+     * 종료 시각이 없는 모임은 만료되지 않음
+     */
+    public boolean isExpired(LocalDateTime now) {
+        return endDateTime != null && endDateTime.isBefore(now);
+    }
+
+    public boolean isManager(Long accountId) {
+        return managerIds.contains(accountId);
+    }
+
+    /**
+     * 체크인 코드, 닉네임, 참가 신청 id 순서로 찾음
+     */
+    public CheckInAttendee find(String key) {
+        if (key == null || key.isBlank()) {
+            return null;
+        }
+
+        String trimmed = key.trim();
+        CheckInAttendee attendee = attendeeByCode.get(trimmed.toUpperCase());
+        if (attendee == null) {
+            attendee = attendeeByNickname.get(trimmed);
+        }
+        if (attendee == null && trimmed.chars().allMatch(Character::isDigit) && trimmed.length() < 19) {
+            attendee = attendeeByEnrollmentId.get(Long.valueOf(trimmed));
+        }
+        return attendee;
+    }
+
+    /**
+     * 처음 체크인하는 경우에만 true
+     */
+    boolean markAttended(CheckInAttendee attendee) {
+        return attendedEnrollmentIds.add(attendee.getEnrollmentId());
+    }
+
+    void unmarkAttended(CheckInAttendee attendee) {
+        attendedEnrollmentIds.remove(attendee.getEnrollmentId());
+    }
+
+    public int size() {
+        return attendeeByEnrollmentId.size();
+    }
+
+    public int getAttendedCount() {
+        return attendedEnrollmentIds.size();
+    }
+}
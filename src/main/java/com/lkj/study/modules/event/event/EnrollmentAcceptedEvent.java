@@ -4,7 +4,9 @@ import com.lkj.study.modules.event.Enrollment;
 
 public class EnrollmentAcceptedEvent extends EnrollmentEvent {
 
+    public static final String MESSAGE = "모임 참가 신청을 확인했습니다. 모임에 참석하세요.";
+
     public EnrollmentAcceptedEvent(Enrollment enrollment) {
-        super(enrollment, "모임 참가 신청을 확인했습니다. 모임에 참석하세요.");
+        super(enrollment, MESSAGE);
     }
 }
@@ -0,0 +1,21 @@
+package com.lkj.study.modules.event.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 참가 신청 일괄 처리 결과, 신청마다 이벤트를 발생시키지 않고 한 번만 발생
+ * 한 계정은 모임마다 신청이 하나뿐이므로 계정마다 수락/거절 중 하나의 알림만 받음
+ */
+@Getter
+@RequiredArgsConstructor
+public class EnrollmentBatchEvent {
+
+    private final Long eventId;
+
+    private final List<Long> acceptedEnrollmentIds;
+
+    private final List<Long> rejectedEnrollmentIds;
+}
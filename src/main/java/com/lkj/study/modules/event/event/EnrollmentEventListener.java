@@ -5,10 +5,12 @@ import com.lkj.study.infra.mail.EmailMessage;
 import com.lkj.study.infra.mail.EmailService;
 import com.lkj.study.modules.account.Account;
 import com.lkj.study.modules.event.Enrollment;
+import com.lkj.study.modules.event.EnrollmentRepository;
 import com.lkj.study.modules.event.Event;
+import com.lkj.study.modules.event.EventRepository;
 import com.lkj.study.modules.notification.Notification;
-import com.lkj.study.modules.notification.NotificationRepository;
 import com.lkj.study.modules.notification.NotificationType;
+import com.lkj.study.modules.notification.NotificationWriter;
 import com.lkj.study.modules.study.Study;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,10 +18,15 @@ import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.context.Context;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 @Slf4j
 @Async
@@ -28,7 +35,9 @@ import java.time.LocalDateTime;
 @RequiredArgsConstructor
 public class EnrollmentEventListener {
 
-    private final NotificationRepository notificationRepository;
+    private final NotificationWriter notificationWriter;
+    private final EventRepository eventRepository;
+    private final EnrollmentRepository enrollmentRepository;
     private final AppProperties appProperties;
     private final TemplateEngine templateEngine;
     private final EmailService emailService;
@@ -41,20 +50,51 @@ public class EnrollmentEventListener {
         Study study = event.getStudy();
 
         if (account.isStudyEnrollmentResultByEmail()) {
-            sendEmail(enrollmentEvent, account, event, study);
+            sendEmail(enrollmentEvent.getMessage(), account, event, study);
         }
 
         if (account.isStudyEnrollmentResultByWeb()) {
-            createNotification(enrollmentEvent, account, event, study);
+            notificationWriter.write(List.of(createNotification(enrollmentEvent.getMessage(), account, event, study)));
         }
     }
 
-    private void sendEmail(EnrollmentEvent enrollmentEvent, Account account, Event event, Study study) {
+    /**
+     * 일괄 처리는 commit 된 뒤 신청과 계정을 한 번에 조회해서 계정마다 알림 하나씩, 알림은 한 번에 저장
+     */
+    @TransactionalEventListener
+    public void handleEnrollmentBatchEvent(EnrollmentBatchEvent enrollmentBatchEvent) {
+        Event event = eventRepository.findById(enrollmentBatchEvent.getEventId()).orElse(null);
+        if (event == null) {
+            return;
+        }
+
+        Set<Long> acceptedIds = new HashSet<>(enrollmentBatchEvent.getAcceptedEnrollmentIds());
+        List<Long> ids = new ArrayList<>(acceptedIds);
+        ids.addAll(enrollmentBatchEvent.getRejectedEnrollmentIds());
+
+        Study study = event.getStudy();
+        List<Notification> notifications = new ArrayList<>();
+        for (Enrollment enrollment : enrollmentRepository.findWithAccountByIdIn(ids)) {
+            Account account = enrollment.getAccount();
+            String message = acceptedIds.contains(enrollment.getId())
+                    ? EnrollmentAcceptedEvent.MESSAGE : EnrollmentRejectedEvent.MESSAGE;
+            if (account.isStudyEnrollmentResultByEmail()) {
+                sendEmail(message, account, event, study);
+            }
+
+            if (account.isStudyEnrollmentResultByWeb()) {
+                notifications.add(createNotification(message, account, event, study));
+            }
+        }
+        notificationWriter.write(notifications);
+    }
+
+    private void sendEmail(String enrollmentMessage, Account account, Event event, Study study) {
         Context context = new Context();
         context.setVariable("nickname", account.getNickname());
         context.setVariable("link", "/study/" + study.getEncodedPath() + "/events/" + event.getId());
         context.setVariable("linkName", study.getTitle());
-        context.setVariable("message", enrollmentEvent.getMessage());
+        context.setVariable("message", enrollmentMessage);
         context.setVariable("host", appProperties.getHost());
         String message = templateEngine.process("mail/simple-link", context);
 
@@ -67,15 +107,15 @@ public class EnrollmentEventListener {
         emailService.sendEmail(emailMessage);
     }
 
-    private void createNotification(EnrollmentEvent enrollmentEvent, Account account, Event event, Study study) {
+    private Notification createNotification(String enrollmentMessage, Account account, Event event, Study study) {
         Notification notification = new Notification();
         notification.setTitle(study.getTitle() + " / " + event.getTitle());
         notification.setLink("/study/" + study.getEncodedPath() + "/events/" + event.getId());
         notification.setChecked(false);
         notification.setCreatedDateTime(LocalDateTime.now());
-        notification.setMessage(enrollmentEvent.getMessage());
+        notification.setMessage(enrollmentMessage);
         notification.setAccount(account);
         notification.setNotificationType(NotificationType.EVENT_ENROLLMENT);
-        notificationRepository.save(notification);
+        return notification;
     }
 }
@@ -4,7 +4,9 @@ import com.lkj.study.modules.event.Enrollment;
 
 public class EnrollmentRejectedEvent extends EnrollmentEvent {
 
+    public static final String MESSAGE = "모임 참가 신청을 거절했습니다.";
+
     public EnrollmentRejectedEvent(Enrollment enrollment) {
-        super(enrollment, "모임 참가 신청을 거절했습니다.");
+        super(enrollment, MESSAGE);
     }
 }
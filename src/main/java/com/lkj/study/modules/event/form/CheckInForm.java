@@ -0,0 +1,9 @@
+package com.lkj.study.modules.event.form;
+
+import lombok.Data;
+
+@Data
+public class CheckInForm {
+
+    private String key;
+}
@@ -0,0 +1,12 @@
+package com.lkj.study.modules.event.form;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class EnrollmentBatchForm {
+
+    private List<EnrollmentOperationForm> operations = new ArrayList<>();
+}
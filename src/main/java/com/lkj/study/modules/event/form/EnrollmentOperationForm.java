@@ -0,0 +1,12 @@
+package com.lkj.study.modules.event.form;
+
+import com.lkj.study.modules.event.EnrollmentOperation;
+import lombok.Data;
+
+@Data
+public class EnrollmentOperationForm {
+
+    private Long enrollmentId;
+
+    private EnrollmentOperation operation;
+}
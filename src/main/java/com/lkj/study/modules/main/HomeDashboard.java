@@ -0,0 +1,27 @@
+package com.lkj.study.modules.main;
+
+import com.lkj.study.modules.account.Account;
+import com.lkj.study.modules.event.Enrollment;
+import com.lkj.study.modules.study.Study;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 로그인 사용자 첫 화면에 필요한 목록들
+ */
+@Getter
+@RequiredArgsConstructor
+public class HomeDashboard {
+
+    private final Account account;
+
+    private final List<Enrollment> enrollmentList;
+
+    private final List<Study> studyList;
+
+    private final List<Study> studyManagerOf;
+
+    private final List<Study> studyMemberOf;
+}
@@ -0,0 +1,129 @@
+package com.lkj.study.modules.main;
+
+import com.lkj.study.modules.account.Account;
+import com.lkj.study.modules.account.AccountRepository;
+import com.lkj.study.modules.event.Enrollment;
+import com.lkj.study.modules.event.EnrollmentRepository;
+import com.lkj.study.modules.study.Study;
+import com.lkj.study.modules.study.StudyRecommendations;
+import com.lkj.study.modules.study.StudyRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 로그인 사용자 첫 화면의 목록들은 서로 독립적인 조회이므로 순서대로 실행하지 않고 동시에 실행
+ * - 각 조회는 전용 thread pool 에서 읽기 전용 transaction 으로 실행
+ * - 모든 조회가 같은 시작 시점에서 TIMEOUT_MILLIS 안에 끝나야 하고, 시간 안에 끝나지 못하거나 실패한 목록은 빈 목록으로 표시
+ *   (계정 정보는 화면을 그리는 데 반드시 필요하므로 요청 thread 에서 다시 조회)
+ * - 기다리기만 멈추면 느린 쿼리가 thread 와 DB connection 을 계속 잡고 있으므로 transaction timeout 을 걸어 DB 에서도 쿼리를 중단
+ *   (transaction 안의 JPA 쿼리마다 남은 시간이 query timeout 으로 걸림, 초 단위라 최소 1초) 다시 조회하는 계정 정보도 같음
+ * - 목록별 조회 시간은 home.widget, 시간 초과 횟수는 home.widget.timeout 으로 기록
+ */
+@Slf4j
+@Component
+public class HomeDashboardLoader implements DisposableBean {
+
+    static final long TIMEOUT_MILLIS = 1_000;
+
+    static final int QUERY_TIMEOUT_SECONDS = (int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(TIMEOUT_MILLIS));
+
+    private final AccountRepository accountRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final StudyRepository studyRepository;
+    private final StudyRecommendations studyRecommendations;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor executor;
+
+    public HomeDashboardLoader(AccountRepository accountRepository, EnrollmentRepository enrollmentRepository,
+                               StudyRepository studyRepository, StudyRecommendations studyRecommendations,
+                               MeterRegistry meterRegistry, PlatformTransactionManager transactionManager) {
+        this.accountRepository = accountRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.studyRepository = studyRepository;
+        this.studyRecommendations = studyRecommendations;
+        this.meterRegistry = meterRegistry;
+
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.transactionTemplate.setTimeout(QUERY_TIMEOUT_SECONDS);
+
+        int processors = Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(processors);
+        this.executor.setMaxPoolSize(processors * 2);
+        this.executor.setQueueCapacity(100);
+        this.executor.setThreadNamePrefix("HomeDashboard-");
+        //pool 과 queue 가 모두 찬 경우 요청 thread 에서 직접 실행 -> 동시 실행 이점만 잃고 요청은 실패하지 않음
+        this.executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.initialize();
+    }
+
+    public HomeDashboard load(Account account) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(TIMEOUT_MILLIS);
+
+        CompletableFuture<Account> accountFuture = submit("account",
+                () -> accountRepository.findAccountWithTagsAndZonesById(account.getId()));
+        CompletableFuture<List<Enrollment>> enrollmentFuture = submit("enrollmentList",
+                () -> enrollmentRepository.findByAccountAndAcceptedOrderByEnrolledAtDesc(account, true));
+        CompletableFuture<List<Study>> studyFuture = accountFuture.thenCompose(accountLoaded ->
+                submit("studyList", () -> studyRecommendations.getStudies(accountLoaded)));
+        CompletableFuture<List<Study>> managerOfFuture = submit("studyManagerOf",
+                () -> studyRepository.findFirst5ByManagersContainingAndClosedOrderByPublishedDateTimeDesc(account, false));
+        CompletableFuture<List<Study>> memberOfFuture = submit("studyMemberOf",
+                () -> studyRepository.findFirst5ByMembersContainingAndClosedOrderByPublishedDateTimeDesc(account, false));
+
+        Account accountLoaded = join("account", accountFuture, deadline, () -> null);
+        if (accountLoaded == null) {
+            accountLoaded = transactionTemplate.execute(
+                    status -> accountRepository.findAccountWithTagsAndZonesById(account.getId()));
+        }
+        return new HomeDashboard(accountLoaded,
+                join("enrollmentList", enrollmentFuture, deadline, Collections::emptyList),
+                join("studyList", studyFuture, deadline, Collections::emptyList),
+                join("studyManagerOf", managerOfFuture, deadline, Collections::emptyList),
+                join("studyMemberOf", memberOfFuture, deadline, Collections::emptyList));
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private <T> CompletableFuture<T> submit(String widget, Supplier<T> query) {
+        Timer timer = meterRegistry.timer("home.widget", "widget", widget);
+        return CompletableFuture.supplyAsync(
+                () -> timer.record(() -> transactionTemplate.execute(status -> query.get())), executor);
+    }
+
+    private <T> T join(String widget, CompletableFuture<T> future, long deadline, Supplier<T> fallback) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            Counter.builder("home.widget.timeout").tag("widget", widget).register(meterRegistry).increment();
+            log.warn("home widget {} timed out after {}ms", widget, TIMEOUT_MILLIS);
+        } catch (ExecutionException e) {
+            log.error("home widget {} failed", widget, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return fallback.get();
+    }
+}
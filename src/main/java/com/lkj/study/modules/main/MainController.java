@@ -1,11 +1,12 @@
 package com.lkj.study.modules.main;
 
-import com.lkj.study.modules.account.AccountRepository;
 import com.lkj.study.modules.account.CurrentAccount;
 import com.lkj.study.modules.account.Account;
-import com.lkj.study.modules.event.EnrollmentRepository;
+import com.lkj.study.modules.study.LatestStudyFeed;
 import com.lkj.study.modules.study.Study;
 import com.lkj.study.modules.study.StudyRepository;
+import com.lkj.study.modules.study.search.StudyScroll;
+import com.lkj.study.modules.study.search.StudySearchCursor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -14,6 +15,7 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import java.util.List;
 
@@ -21,27 +23,25 @@ import java.util.List;
 @RequiredArgsConstructor
 public class MainController {
 
+    private static final int SEARCH_PAGE_SIZE = 9;
+
     private final StudyRepository studyRepository;
-    private final EnrollmentRepository enrollmentRepository;
-    private final AccountRepository accountRepository;
+    private final LatestStudyFeed latestStudyFeed;
+    private final HomeDashboardLoader homeDashboardLoader;
 
 
     @GetMapping("/")
     public String home(@CurrentAccount Account account, Model model) {
         if(account != null) {   //인증을 한 사용자
-            Account accountLoaded = accountRepository.findAccountWithTagsAndZonesById(account.getId());
-            model.addAttribute(accountLoaded);
-            model.addAttribute("enrollmentList", enrollmentRepository.findByAccountAndAcceptedOrderByEnrolledAtDesc(accountLoaded, true));
-            model.addAttribute("studyList", studyRepository.findByAccount(
-                    accountLoaded.getTags(),
-                    accountLoaded.getZones()));
-            model.addAttribute("studyManagerOf",
-                    studyRepository.findFirst5ByManagersContainingAndClosedOrderByPublishedDateTimeDesc(account, false));
-            model.addAttribute("studyMemberOf",
-                    studyRepository.findFirst5ByMembersContainingAndClosedOrderByPublishedDateTimeDesc(account, false));
+            HomeDashboard homeDashboard = homeDashboardLoader.load(account);   //목록들을 동시에 조회
+            model.addAttribute(homeDashboard.getAccount());
+            model.addAttribute("enrollmentList", homeDashboard.getEnrollmentList());
+            model.addAttribute("studyList", homeDashboard.getStudyList());   //미리 계산해 둔 추천 목록
+            model.addAttribute("studyManagerOf", homeDashboard.getStudyManagerOf());
+            model.addAttribute("studyMemberOf", homeDashboard.getStudyMemberOf());
             return "index-after-login";
         }
-        model.addAttribute("studyList", studyRepository.findFirst9ByPublishedAndClosedOrderByPublishedDateTimeDesc(true, false));
+        model.addAttribute("studyList", latestStudyFeed.getStudies());   //DB 조회 없이 미리 만들어 둔 목록 사용
         return "index";
     }
 
@@ -58,9 +58,34 @@ public class MainController {
         Page<Study> studyPage = studyRepository.findByKeyword(keyword, pageable);
         model.addAttribute("studyPage", studyPage);
         model.addAttribute("keyword", keyword);
-        model.addAttribute("sortProperty",
-                pageable.getSort().toString().contains("publishedDateTime") ? "publishedDateTime" : "memberCount");
+        model.addAttribute("sortProperty", getSortProperty(pageable));
 
         return "search";
     }
+
+    /**
+     * cursor 기반 검색 결과 scroll
+     * 다음 페이지 token(cursor) 을 넘겨받아 그 다음 결과부터 조회, 전체 개수는 withTotal=true 인 경우에만 계산
+     */
+    @GetMapping("/search/study/scroll")
+    public String scrollStudy(String keyword, String cursor,
+                              @RequestParam(defaultValue = StudySearchCursor.PUBLISHED_DATE_TIME) String sort,
+                              @RequestParam(defaultValue = "false") boolean withTotal, Model model) {
+
+        StudySearchCursor studySearchCursor = cursor == null ? StudySearchCursor.first(sort) : StudySearchCursor.decode(cursor);
+        StudyScroll studyScroll = studyRepository.findByKeyword(keyword, studySearchCursor, SEARCH_PAGE_SIZE, withTotal);
+        model.addAttribute("studyScroll", studyScroll);
+        model.addAttribute("keyword", keyword);
+        model.addAttribute("sortProperty", studySearchCursor.getSortProperty());
+
+        return "search-scroll";
+    }
+
+    private String getSortProperty(Pageable pageable) {
+        String sort = pageable.getSort().toString();
+        if (sort.contains(StudyRepository.RELEVANCE)) {
+            return StudyRepository.RELEVANCE;
+        }
+        return sort.contains("publishedDateTime") ? "publishedDateTime" : "memberCount";
+    }
 }
@@ -12,8 +12,13 @@ import java.time.LocalDateTime;
 @Getter @Setter @EqualsAndHashCode(of = "id")
 public class Notification {
 
+    /**
+     * NotificationWriter 가 batch INSERT 할 때 id 를 미리 여러 개 예약해서 쓰도록 pooled sequence 사용
+     */
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_seq")
+    @SequenceGenerator(name = "notification_seq", sequenceName = "notification_seq",
+            allocationSize = NotificationWriter.ID_ALLOCATION_SIZE)
     private Long id;
 
     private String title;
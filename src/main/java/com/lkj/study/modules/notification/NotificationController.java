@@ -7,9 +7,14 @@ import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 @Controller
 @RequiredArgsConstructor
@@ -19,32 +24,47 @@ public class NotificationController {
 
     private final NotificationService service;
 
+    private final NotificationPushRegistry notificationPushRegistry;
+
+    private final UnreadNotificationCounter unreadNotificationCounter;
+
     @GetMapping("/notifications")
     public String getNotifications(@CurrentAccount Account account, Model model) {
         List<Notification> notifications = repository.findByAccountAndCheckedOrderByCreatedDateTimeDesc(account, false);
         long numberOfChecked = repository.countByAccountAndChecked(account, true);
-        putCategorizedNotifications(model, notifications, numberOfChecked, notifications.size());
+        putCategorizedNotifications(model, account.getId(), notifications, numberOfChecked, notifications.size());
         model.addAttribute("isNew", true);
-        service.markAsRead(notifications);
+        service.markAsRead(account, notifications);
         return "notification/list";
     }
 
+    /**
+     * 새 알림을 SSE 로 받음, 연결되면 먼저 읽지 않은 알림 수를 보냄
+     * 요청은 async 로 전환된 채 남고 handler 는 바로 반환
+     */
+    @GetMapping("/notifications/stream")
+    public void streamNotifications(@CurrentAccount Account account, HttpServletRequest request,
+                                    HttpServletResponse response) throws IOException {
+        notificationPushRegistry.connect(request, response, account.getId(),
+                unreadNotificationCounter.get(account.getId()));
+    }
+
     @GetMapping("/notifications/old")
     public String getOldNotifications(@CurrentAccount Account account, Model model) {
         List<Notification> notifications = repository.findByAccountAndCheckedOrderByCreatedDateTimeDesc(account, true);
         long numberOfNotChecked = repository.countByAccountAndChecked(account, false);
-        putCategorizedNotifications(model, notifications, notifications.size(), numberOfNotChecked);
+        putCategorizedNotifications(model, account.getId(), notifications, notifications.size(), numberOfNotChecked);
         model.addAttribute("isNew", false);
         return "notification/list";
     }
 
     @DeleteMapping("/notifications")
-    public String deleteNotifications(@CurrentAccount Account account) {
-        repository.deleteByAccountAndChecked(account, true);
+    public String deleteNotifications(@CurrentAccount Account account, @RequestParam Long maxId) {
+        service.deleteNotifications(account, true, maxId);
         return "redirect:/notifications";
     }
 
-    private void putCategorizedNotifications(Model model, List<Notification> notifications,
+    private void putCategorizedNotifications(Model model, Long accountId, List<Notification> notifications,
                                              long numberOfChecked, long numberOfNotChecked) {
 
         List<Notification> newStudyNotifications = new ArrayList<>();
@@ -60,6 +80,7 @@ public class NotificationController {
         }
 
         model.addAttribute("numberOfNotChecked", numberOfNotChecked);
+        model.addAttribute("maxId", Objects.requireNonNullElse(repository.findMaxIdByAccountId(accountId), 0L));
         model.addAttribute("numberOfChecked", numberOfChecked);
         model.addAttribute("notifications", notifications);
         model.addAttribute("newStudyNotifications", newStudyNotifications);
@@ -17,7 +17,7 @@ import javax.servlet.http.HttpServletResponse;
 @RequiredArgsConstructor
 public class NotificationInterceptor implements HandlerInterceptor {
 
-    private final NotificationRepository notificationRepository;
+    private final UnreadNotificationCounter unreadNotificationCounter;
 
     /**
      * preHandle -> handler 들어가기 이전
@@ -30,8 +30,7 @@ public class NotificationInterceptor implements HandlerInterceptor {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (modelAndView != null && !isRedirectView(modelAndView) && authentication != null && authentication.getPrincipal() instanceof UserAccount) {
             Account account = ((UserAccount)authentication.getPrincipal()).getAccount();
-            long count = notificationRepository.countByAccountAndChecked(account, false);
-            modelAndView.addObject("hasNotification", count > 0);
+            modelAndView.addObject("hasNotification", unreadNotificationCounter.get(account.getId()) > 0);
         }
     }
 
@@ -0,0 +1,20 @@
+package com.lkj.study.modules.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * SSE 로 보내는 새 알림, 같은 transaction 에서 여러 개가 생기면 마지막 알림과 읽지 않은 알림 수만 보냄
+ */
+@Getter
+@AllArgsConstructor
+public class NotificationPush {
+
+    private final String title;
+
+    private final String message;
+
+    private final String link;
+
+    private final long unreadCount;
+}
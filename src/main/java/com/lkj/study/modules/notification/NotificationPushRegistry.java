@@ -0,0 +1,254 @@
+package com.lkj.study.modules.notification;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로그인한 계정별 SSE 연결 목록
+ * - servlet async 요청 + non-blocking 출력(WriteListener)을 사용하므로 연결을 유지하거나 전송하는 동안 thread 를 잡고 있지 않음
+ *   출력 stream 이 쓸 수 있는 상태일 때만 쓰고, 아니면 client 의 buffer 에 두었다가 container 가 onWritePossible 을 호출할 때 이어서 씀
+ * - client 마다 buffer 는 BUFFER_SIZE 개까지, 가득 찬(받는 속도가 느린) client 는 연결을 끊음
+ *   -> 브라우저(EventSource)가 다시 연결하면서 읽지 않은 알림 수를 새로 받음
+ * - HEARTBEAT_MILLIS 마다 한 번의 순회로 모든 client 에 comment 를 보내서 proxy 의 idle timeout 을 막고 끊어진 연결을 정리
+ * - TIMEOUT_MILLIS 가 지나면 서버에서 연결을 끝내고 브라우저가 다시 연결
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationPushRegistry implements DisposableBean {
+
+    static final long TIMEOUT_MILLIS = 30 * 60 * 1000;
+
+    static final long HEARTBEAT_MILLIS = 20 * 1000;
+
+    static final int BUFFER_SIZE = 16;
+
+    private static final byte[] HEARTBEAT = ":heartbeat\n\n".getBytes(StandardCharsets.UTF_8);
+
+    private final ObjectMapper objectMapper;
+
+    private final Map<Long, Set<Client>> clientsByAccountId = new ConcurrentHashMap<>();
+
+    /**
+     * 요청을 async 로 전환하고 바로 반환, 이후 전송은 push/heartbeat 를 호출한 thread 나 container 의 I/O thread 에서 함
+     */
+    public void connect(HttpServletRequest request, HttpServletResponse response, Long accountId, long unreadCount)
+            throws IOException {
+        response.setContentType(MediaType.TEXT_EVENT_STREAM_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader("Cache-Control", "no-cache");
+        response.setHeader("X-Accel-Buffering", "no");
+
+        AsyncContext asyncContext = request.startAsync(request, response);
+        asyncContext.setTimeout(TIMEOUT_MILLIS);
+        Client client = new Client(accountId, asyncContext, response.getOutputStream());
+        asyncContext.addListener(client);
+        clientsByAccountId.computeIfAbsent(accountId, id -> ConcurrentHashMap.newKeySet()).add(client);
+
+        client.offer(event("unread", String.valueOf(unreadCount)));
+        client.output.setWriteListener(client);
+    }
+
+    public boolean isConnected(Long accountId) {
+        return clientsByAccountId.containsKey(accountId);
+    }
+
+    public void push(Long accountId, NotificationPush notificationPush) {
+        Set<Client> clients = clientsByAccountId.get(accountId);
+        if (clients == null) {
+            return;
+        }
+
+        byte[] event;
+        try {
+            event = event("notification", objectMapper.writeValueAsString(notificationPush));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+        clients.forEach(client -> client.offer(event));
+    }
+
+    public int size() {
+        return clientsByAccountId.values().stream().mapToInt(Set::size).sum();
+    }
+
+    /**
+     * 쓰기가 막히지 않으므로 client 마다 작업을 만들지 않고 한 번에 순회
+     */
+    @Scheduled(fixedRate = HEARTBEAT_MILLIS, initialDelay = HEARTBEAT_MILLIS)
+    public void heartbeat() {
+        clientsByAccountId.values().forEach(clients -> clients.forEach(Client::heartbeat));
+    }
+
+    @Override
+    public void destroy() {
+        clientsByAccountId.values().forEach(clients -> clients.forEach(Client::close));
+    }
+
+    private void remove(Client client) {
+        clientsByAccountId.computeIfPresent(client.accountId, (id, clients) -> {
+            clients.remove(client);
+            return clients.isEmpty() ? null : clients;
+        });
+    }
+
+    private static byte[] event(String name, String data) {
+        return ("event:" + name + "\ndata:" + data + "\n\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 출력 stream 은 thread-safe 하지 않으므로 buffer 와 쓰기는 client 단위로 동기화
+     * isReady() 가 false 를 반환하면 container 가 쓸 수 있게 됐을 때 onWritePossible 을 호출
+     */
+    private class Client implements WriteListener, AsyncListener {
+
+        private final Long accountId;
+
+        private final AsyncContext asyncContext;
+
+        private final ServletOutputStream output;
+
+        private final Queue<byte[]> buffer = new ArrayDeque<>(BUFFER_SIZE);
+
+        private boolean listening;
+
+        private boolean flushNeeded;
+
+        private boolean closed;
+
+        private Client(Long accountId, AsyncContext asyncContext, ServletOutputStream output) {
+            this.accountId = accountId;
+            this.asyncContext = asyncContext;
+            this.output = output;
+        }
+
+        void offer(byte[] event) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                if (buffer.size() < BUFFER_SIZE) {
+                    buffer.add(event);
+                    event = null;
+                }
+            }
+
+            if (event != null) {
+                log.debug("notification push buffer of account {} is full, closing connection", accountId);
+                close();
+                return;
+            }
+            write();
+        }
+
+        /**
+         * 보낼 이벤트가 남아 있다면 연결이 살아 있는 것이므로 heartbeat 는 넣지 않음
+         */
+        void heartbeat() {
+            synchronized (this) {
+                if (closed || !buffer.isEmpty()) {
+                    return;
+                }
+                buffer.add(HEARTBEAT);
+            }
+            write();
+        }
+
+        @Override
+        public void onWritePossible() {
+            synchronized (this) {
+                listening = true;
+            }
+            write();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            close();
+        }
+
+        private void write() {
+            try {
+                synchronized (this) {
+                    // setWriteListener 전에는 출력 stream 을 쓸 수 없음
+                    if (closed || !listening) {
+                        return;
+                    }
+                    while (output.isReady()) {
+                        byte[] event = buffer.poll();
+                        if (event == null) {
+                            if (!flushNeeded) {
+                                return;
+                            }
+                            flushNeeded = false;
+                            output.flush();
+                            continue;
+                        }
+                        output.write(event);
+                        flushNeeded = true;
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 브라우저가 연결을 끊었거나 이미 끝난 연결
+                close();
+            }
+        }
+
+        void close() {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                buffer.clear();
+            }
+
+            remove(this);
+            try {
+                asyncContext.complete();
+            } catch (IllegalStateException e) {
+                // 이미 timeout 이나 오류로 끝난 요청
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            close();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            close();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            close();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
@@ -2,17 +2,43 @@ package com.lkj.study.modules.notification;
 
 import com.lkj.study.modules.account.Account;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 
 @Transactional(readOnly = true)
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
     long countByAccountAndChecked(Account account, boolean checked);
 
+    @Query("select count(n) from Notification n where n.account.id = :accountId and n.checked = false")
+    long countUnread(@Param("accountId") Long accountId);
+
+    @Query("select new com.lkj.study.modules.notification.UnreadNotificationCount(n.account.id, count(n)) " +
+            "from Notification n where n.account.id in :accountIds and n.checked = false group by n.account.id")
+    List<UnreadNotificationCount> countUnreadByAccountIdIn(@Param("accountIds") Collection<Long> accountIds);
+
     @Transactional
     List<Notification> findByAccountAndCheckedOrderByCreatedDateTimeDesc(Account account, boolean checked);
 
+    @Query("select max(n.id) from Notification n where n.account.id = :accountId")
+    Long findMaxIdByAccountId(@Param("accountId") Long accountId);
+
+    /**
+     * 알림을 읽어 들이지 않고 UPDATE/DELETE 한 번으로 처리
+     * maxId 는 화면에 보여준 알림 중 가장 큰 id, 그 뒤에 생긴 알림은 건드리지 않음
+     */
+    @Transactional
+    @Modifying
+    @Query("update Notification n set n.checked = true " +
+            "where n.account.id = :accountId and n.checked = false and n.id <= :maxId")
+    int markAsReadUpTo(@Param("accountId") Long accountId, @Param("maxId") Long maxId);
+
     @Transactional
-    void deleteByAccountAndChecked(Account account, boolean checked);
+    @Modifying
+    @Query("delete from Notification n where n.account.id = :accountId and n.checked = :checked and n.id <= :maxId")
+    int deleteUpTo(@Param("accountId") Long accountId, @Param("checked") boolean checked, @Param("maxId") Long maxId);
 }
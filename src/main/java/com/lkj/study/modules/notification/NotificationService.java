@@ -1,5 +1,6 @@
 package com.lkj.study.modules.notification;
 
+import com.lkj.study.modules.account.Account;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -12,9 +13,25 @@ import java.util.List;
 public class NotificationService {
 
     private final NotificationRepository notificationRepository;
+    private final UnreadNotificationCounter unreadNotificationCounter;
 
-    public void markAsRead(List<Notification> notifications) {
-        notifications.forEach(n -> n.setChecked(true));
-        notificationRepository.saveAll(notifications);
+    /**
+     * 화면에 보여준 알림(가장 큰 id 까지)만 읽음 처리, 읽지 않은 알림 수는 실제로 바뀐 row 수만큼 줄임
+     */
+    public void markAsRead(Account account, List<Notification> notifications) {
+        Long maxId = notifications.stream().map(Notification::getId).max(Long::compareTo).orElse(null);
+        if (maxId == null) {
+            return;
+        }
+
+        int updated = notificationRepository.markAsReadUpTo(account.getId(), maxId);
+        unreadNotificationCounter.decrement(account.getId(), updated);
+    }
+
+    public void deleteNotifications(Account account, boolean checked, Long maxId) {
+        int deleted = notificationRepository.deleteUpTo(account.getId(), checked, maxId);
+        if (!checked) {
+            unreadNotificationCounter.decrement(account.getId(), deleted);
+        }
     }
 }
@@ -0,0 +1,112 @@
+package com.lkj.study.modules.notification;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.EntityManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 알림 여러 건을 JDBC batch INSERT 로 저장
+ * save() 를 알림마다 호출하면 INSERT 와 id 조회(sequence)가 각각 한 번씩 실행되므로
+ * - id 는 Hibernate 의 Notification id 생성기(pooled, ID_ALLOCATION_SIZE 개씩 예약)에서 받아서 sequence 조회를 ID_ALLOCATION_SIZE 건에 한 번으로 줄이고
+ * - INSERT 는 BATCH_SIZE 건씩 묶어서 실행
+ * JPA 로 저장하는 알림과 같은 생성기를 쓰므로 id 가 겹치지 않음
+ * 읽지 않은 알림 수도 계정별로 모아서 한 번씩 반영, SSE 로 연결된 계정에는 commit 된 뒤 마지막 알림을 보냄
+ */
+@Component
+@Transactional
+@RequiredArgsConstructor
+public class NotificationWriter {
+
+    static final int ID_ALLOCATION_SIZE = 100;
+
+    static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL = "insert into notification " +
+            "(id, title, link, message, checked, account_id, created_date_time, notification_type) " +
+            "values (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+    private final NotificationPushRegistry notificationPushRegistry;
+
+    public void write(List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        IdentifierGenerator idGenerator = session.getFactory().getMetamodel()
+                .entityPersister(Notification.class)
+                .getIdentifierGenerator();
+        for (Notification notification : notifications) {
+            notification.setId((Long) idGenerator.generate(session, notification));
+        }
+
+        for (int from = 0; from < notifications.size(); from += BATCH_SIZE) {
+            insert(notifications.subList(from, Math.min(from + BATCH_SIZE, notifications.size())));
+        }
+
+        notifications.stream()
+                .collect(Collectors.groupingBy(n -> n.getAccount().getId(), Collectors.counting()))
+                .forEach(unreadNotificationCounter::increment);
+        pushAfterCommit(notifications);
+    }
+
+    /**
+     * 읽지 않은 알림 수 증가도 commit 된 뒤에 반영되므로 그보다 나중에 등록해서 증가된 값을 보냄
+     */
+    private void pushAfterCommit(List<Notification> notifications) {
+        Map<Long, Notification> latestByAccountId = notifications.stream()
+                .filter(n -> notificationPushRegistry.isConnected(n.getAccount().getId()))
+                .collect(Collectors.toMap(n -> n.getAccount().getId(), Function.identity(), (first, second) -> second));
+        if (latestByAccountId.isEmpty()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                latestByAccountId.forEach((accountId, n) -> notificationPushRegistry.push(accountId,
+                        new NotificationPush(n.getTitle(), n.getMessage(), n.getLink(), unreadNotificationCounter.get(accountId))));
+            }
+        });
+    }
+
+    private void insert(List<Notification> batch) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Notification notification = batch.get(i);
+                ps.setLong(1, notification.getId());
+                ps.setString(2, notification.getTitle());
+                ps.setString(3, notification.getLink());
+                ps.setString(4, notification.getMessage());
+                ps.setBoolean(5, notification.isChecked());
+                ps.setLong(6, notification.getAccount().getId());
+                ps.setTimestamp(7, Timestamp.valueOf(notification.getCreatedDateTime()));
+                ps.setString(8, notification.getNotificationType().name());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return batch.size();
+            }
+        });
+    }
+}
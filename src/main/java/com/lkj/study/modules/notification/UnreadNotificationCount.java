@@ -0,0 +1,13 @@
+package com.lkj.study.modules.notification;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class UnreadNotificationCount {
+
+    private final Long accountId;
+
+    private final long count;
+}
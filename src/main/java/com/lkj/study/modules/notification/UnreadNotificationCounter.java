@@ -0,0 +1,161 @@
+package com.lkj.study.modules.notification;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 계정별 읽지 않은 알림 수
+ * 화면을 그릴 때마다 알림 테이블을 COUNT 하지 않도록 처음 한 번만 DB 에서 읽고 이후에는 알림 생성/읽음/삭제 때 값을 더하고 뺌
+ * - 알림 생성은 transaction 이 commit 된 뒤에 반영(rollback 된 알림은 세지 않음)
+ * - 아직 읽지 않은 계정의 알림 생성은 무시, 다음 조회 때 DB 에서 읽음
+ * - 최근에 조회한 MAX_SIZE 개 계정만 보관(LRU), IDLE_MILLIS 동안 조회하지 않은 계정은 reconcile 때 제거
+ * - 조회와 증가가 겹치거나 다른 서버에서 변경된 경우 값이 틀어질 수 있으므로 RECONCILE_INTERVAL_MILLIS 마다 남아 있는 계정만 DB 값으로 맞춤
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnreadNotificationCounter {
+
+    static final long RECONCILE_INTERVAL_MILLIS = 5 * 60 * 1000;
+
+    static final int RECONCILE_BATCH_SIZE = 1000;
+
+    static final int MAX_SIZE = 100_000;
+
+    static final long IDLE_MILLIS = 30 * 60 * 1000;
+
+    private final NotificationRepository notificationRepository;
+
+    private final Map<Long, Count> countByAccountId = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Count> eldest) {
+            return size() > MAX_SIZE;
+        }
+    };
+
+    public long get(Long accountId) {
+        synchronized (this) {
+            Count count = countByAccountId.get(accountId);
+            if (count != null) {
+                return count.read();
+            }
+        }
+
+        long loaded = notificationRepository.countUnread(accountId);
+        synchronized (this) {
+            return countByAccountId.computeIfAbsent(accountId, id -> new Count(loaded)).read();
+        }
+    }
+
+    public void increment(Long accountId, long delta) {
+        afterCommit(() -> add(accountId, delta));
+    }
+
+    public void decrement(Long accountId, long delta) {
+        afterCommit(() -> add(accountId, -delta));
+    }
+
+    public synchronized int size() {
+        return countByAccountId.size();
+    }
+
+    @Scheduled(fixedDelay = RECONCILE_INTERVAL_MILLIS, initialDelay = RECONCILE_INTERVAL_MILLIS)
+    public void reconcile() {
+        reconcile(System.currentTimeMillis());
+    }
+
+    /**
+     * 오래 조회하지 않은 계정은 맞추지 않고 제거(다음 조회 때 DB 에서 다시 읽음), DB 조회는 lock 밖에서
+     * get 으로 다시 찾으면 LRU 순서가 바뀌므로 제거할 때 꺼내 둔 Count 의 값을 직접 변경
+     */
+    void reconcile(long now) {
+        List<Long> accountIds = new ArrayList<>();
+        Map<Long, Count> live = new HashMap<>();
+        int evicted = 0;
+        synchronized (this) {
+            Iterator<Map.Entry<Long, Count>> iterator = countByAccountId.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Long, Count> entry = iterator.next();
+                if (now - entry.getValue().lastReadMillis > IDLE_MILLIS) {
+                    iterator.remove();
+                    evicted++;
+                } else {
+                    accountIds.add(entry.getKey());
+                    live.put(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+
+        int corrected = 0;
+        for (int from = 0; from < accountIds.size(); from += RECONCILE_BATCH_SIZE) {
+            List<Long> ids = accountIds.subList(from, Math.min(from + RECONCILE_BATCH_SIZE, accountIds.size()));
+            Map<Long, Long> counts = new HashMap<>();
+            notificationRepository.countUnreadByAccountIdIn(ids).forEach(c -> counts.put(c.getAccountId(), c.getCount()));
+            synchronized (this) {
+                for (Long id : ids) {
+                    Count count = live.get(id);
+                    long actual = counts.getOrDefault(id, 0L);
+                    if (count.value != actual) {
+                        count.value = actual;
+                        corrected++;
+                    }
+                }
+            }
+        }
+        if (corrected > 0 || evicted > 0) {
+            log.info("unread notification count corrected for {} of {} accounts, {} idle accounts evicted",
+                    corrected, accountIds.size(), evicted);
+        }
+    }
+
+    private synchronized void add(Long accountId, long delta) {
+        Count count = countByAccountId.get(accountId);
+        if (count != null) {
+            count.value = Math.max(0, count.value + delta);
+        }
+    }
+
+    private void afterCommit(Runnable runnable) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runnable.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runnable.run();
+            }
+        });
+    }
+
+    /**
+     * countByAccountId 의 lock 안에서만 읽고 씀
+     */
+    private static class Count {
+
+        private long value;
+
+        private long lastReadMillis;
+
+        private Count(long value) {
+            this.value = value;
+        }
+
+        private long read() {
+            lastReadMillis = System.currentTimeMillis();
+            return value;
+        }
+    }
+}
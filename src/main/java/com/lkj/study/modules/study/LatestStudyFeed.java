@@ -0,0 +1,79 @@
+package com.lkj.study.modules.study;
+
+import com.lkj.study.modules.study.event.StudyChangedEvent;
+import com.lkj.study.modules.study.event.StudyCreatedEvent;
+import com.lkj.study.modules.study.event.StudyMemberChangedEvent;
+import com.lkj.study.modules.study.event.StudyUpdateEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 비로그인 첫 화면의 최근 공개 스터디 목록
+ * 요청마다 조회하지 않고 불변 목록(snapshot)을 만들어 두고 volatile 참조로 lock 없이 읽음
+ * 스터디 공개/종료, 태그/지역, 경로/제목, 멤버 변경 이벤트가 commit 된 뒤에만 다시 만듦
+ */
+@Component
+@RequiredArgsConstructor
+public class LatestStudyFeed {
+
+    private final StudyRepository studyRepository;
+
+    private volatile List<StudyCard> studies;
+
+    public List<StudyCard> getStudies() {
+        List<StudyCard> snapshot = studies;
+        return snapshot != null ? snapshot : rebuild();
+    }
+
+    /**
+     * 동시에 여러 commit 이 일어나도 rebuild 가 순서대로 실행되므로 마지막 snapshot 은 항상 가장 최근 commit 이후에 조회한 값
+     */
+    public synchronized List<StudyCard> rebuild() {
+        List<StudyCard> snapshot = studyRepository.findFirst9ByPublishedAndClosedOrderByPublishedDateTimeDesc(true, false)
+                .stream()
+                .map(StudyCard::of)
+                .collect(Collectors.toUnmodifiableList());
+        studies = snapshot;
+        return snapshot;
+    }
+
+    @TransactionalEventListener
+    public void handleStudyCreatedEvent(StudyCreatedEvent studyCreatedEvent) {
+        rebuild();
+    }
+
+    @TransactionalEventListener
+    public void handleStudyUpdateEvent(StudyUpdateEvent studyUpdateEvent) {
+        rebuild();
+    }
+
+    /**
+     * 공개 중인 스터디가 아니고 목록에도 없는 스터디의 변경은 목록에 영향이 없음
+     */
+    @TransactionalEventListener
+    public void handleStudyChangedEvent(StudyChangedEvent studyChangedEvent) {
+        Study study = studyChangedEvent.getStudy();
+        if ((study.isPublished() && !study.isClosed()) || contains(study.getId())) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 멤버 수는 목록에 있는 스터디만 표시하므로 목록에 있을 때만 다시 만듦
+     */
+    @TransactionalEventListener
+    public void handleStudyMemberChangedEvent(StudyMemberChangedEvent studyMemberChangedEvent) {
+        if (contains(studyMemberChangedEvent.getStudy().getId())) {
+            rebuild();
+        }
+    }
+
+    private boolean contains(Long studyId) {
+        List<StudyCard> snapshot = studies;
+        return snapshot != null && snapshot.stream().anyMatch(card -> card.getId().equals(studyId));
+    }
+}
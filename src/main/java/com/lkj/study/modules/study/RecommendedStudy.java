@@ -0,0 +1,24 @@
+package com.lkj.study.modules.study;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 추천 목록의 한 항목, 순서(publishedDateTime 내림차순, id 내림차순)를 정하는 데 필요한 값만 보관
+ */
+@Getter
+@RequiredArgsConstructor
+public class RecommendedStudy implements Comparable<RecommendedStudy> {
+
+    private final Long id;
+
+    private final LocalDateTime publishedDateTime;
+
+    @Override
+    public int compareTo(RecommendedStudy other) {
+        int compare = other.publishedDateTime.compareTo(this.publishedDateTime);
+        return compare != 0 ? compare : other.id.compareTo(this.id);
+    }
+}
@@ -37,6 +37,9 @@ import java.util.Set;
 //        @NamedAttributeNode("tags"),
 //        @NamedAttributeNode("zones")})
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_study_published_date_time", columnList = "published, publishedDateTime, id"),
+        @Index(name = "idx_study_member_count", columnList = "published, memberCount, id")})
 @Getter
 @Setter
 @EqualsAndHashCode(of = "id")
@@ -64,8 +67,12 @@ public class Study {
     @Lob @Basic(fetch = FetchType.EAGER)
     private String fullDescription;
 
-    @Lob @Basic(fetch = FetchType.EAGER)
-    private String image;
+    /**
+     * 배너 이미지는 BlobStore 에 저장하고 내용의 hash 만 보관
+     * base64 이미지를 Lob 으로 들고 있으면 스터디를 조회할 때마다 이미지 전체가 함께 조회됨
+     */
+    @Column(length = 64)
+    private String imageHash;
 
     @ManyToMany
     private Set<Tag> tags = new HashSet<>();
@@ -114,7 +121,7 @@ public class Study {
     }
 
     public String getImage() {
-        return image != null ? image : "/images/default_banner.png";
+        return imageHash != null ? "/study-images/" + imageHash : "/images/default_banner.png";
     }
 
     public void publish() {
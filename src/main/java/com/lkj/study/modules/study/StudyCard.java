@@ -0,0 +1,77 @@
+package com.lkj.study.modules.study;
+
+import com.lkj.study.modules.tag.Tag;
+import com.lkj.study.modules.zone.Zone;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 스터디 목록(study-list fragment) 한 칸을 그리는 데 필요한 값만 담은 불변 객체
+ * 엔티티와 달리 여러 요청(thread)이 같은 인스턴스를 공유해도 안전
+ */
+@Getter
+@RequiredArgsConstructor
+public class StudyCard {
+
+    private final Long id;
+
+    private final String path;
+
+    private final String title;
+
+    private final String shortDescription;
+
+    private final String image;
+
+    private final int memberCount;
+
+    private final LocalDateTime publishedDateTime;
+
+    private final List<TagCard> tags;
+
+    private final List<ZoneCard> zones;
+
+    public static StudyCard of(Study study) {
+        return new StudyCard(study.getId(), study.getPath(), study.getTitle(), study.getShortDescription(),
+                study.getImage(), study.getMemberCount(), study.getPublishedDateTime(),
+                study.getTags().stream().map(TagCard::of).collect(Collectors.toUnmodifiableList()),
+                study.getZones().stream().map(ZoneCard::of).collect(Collectors.toUnmodifiableList()));
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class TagCard {
+
+        private final String title;
+
+        static TagCard of(Tag tag) {
+            return new TagCard(tag.getTitle());
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class ZoneCard {
+
+        private final Long id;
+
+        private final String city;
+
+        private final String localNameOfCity;
+
+        private final String province;
+
+        static ZoneCard of(Zone zone) {
+            return new ZoneCard(zone.getId(), zone.getCity(), zone.getLocalNameOfCity(), zone.getProvince());
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s(%s)/%s", city, localNameOfCity, province);
+        }
+    }
+}
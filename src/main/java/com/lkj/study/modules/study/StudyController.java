@@ -24,7 +24,6 @@ import java.nio.charset.StandardCharsets;
 public class StudyController {
 
     private final StudyService studyService;
-    private final StudyRepository studyRepository;
     private final ModelMapper modelMapper;
     private final StudyFormValidator studyFormValidator;
 
@@ -53,30 +52,30 @@ public class StudyController {
 
     @GetMapping("/study/{path}")
     public String viewStudy(@CurrentAccount Account account, @PathVariable String path, Model model) {
-        Study study = studyRepository.findByPath(path);
+        StudyHeader study = studyService.getStudyHeader(path, true);
         model.addAttribute(account);
-        model.addAttribute(study);
+        model.addAttribute("study", study);
         return "study/view";
     }
 
     @GetMapping("/study/{path}/members")
     public String viewStudyMembers(@CurrentAccount Account account, @PathVariable String path, Model model) {
-        Study study = studyRepository.findByPath(path);
+        StudyHeader study = studyService.getStudyHeader(path, false);
         model.addAttribute(account);
-        model.addAttribute(study);
+        model.addAttribute("study", study);
         return "study/members";
     }
 
     @GetMapping("/study/{path}/join")
     public String joinStudy(@CurrentAccount Account account, @PathVariable String path) {
-        Study study = studyRepository.findStudyWithMembersByPath(path);
+        Study study = studyService.getStudyToUpdateMember(path);
         studyService.addMember(study, account);
         return "redirect:/study/" + study.getEncodedPath() + "/members";
     }
 
     @GetMapping("/study/{path}/leave")
     public String leaveStudy(@CurrentAccount Account account, @PathVariable String path) {
-        Study study = studyRepository.findStudyWithMembersByPath(path);
+        Study study = studyService.getStudyToUpdateMember(path);
         studyService.removeMember(study, account);
         return "redirect:/study/" + study.getEncodedPath() + "/members";
     }
@@ -0,0 +1,88 @@
+package com.lkj.study.modules.study;
+
+import com.lkj.study.modules.account.Account;
+import com.lkj.study.modules.account.UserAccount;
+import com.lkj.study.modules.study.StudyCard.TagCard;
+import com.lkj.study.modules.study.StudyCard.ZoneCard;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 스터디 조회/구성원/설정 화면을 그리는 데 필요한 값만 담은 읽기 전용 객체
+ * 엔티티가 아니므로 영속성 컨텍스트에 올라가지 않고(dirty checking 없음) 화면에서 lazy loading 도 일어나지 않음
+ * fullDescription 은 소개 화면처럼 필요한 경우에만 채움
+ */
+@Getter
+@Builder
+public class StudyHeader {
+
+    private final Long id;
+
+    private final String path;
+
+    private final String title;
+
+    private final String shortDescription;
+
+    private final String fullDescription;
+
+    private final boolean published;
+
+    private final boolean closed;
+
+    private final LocalDateTime closedDateTime;
+
+    private final boolean recruiting;
+
+    private final boolean useBanner;
+
+    private final String imageHash;
+
+    private final int memberCount;
+
+    private final List<TagCard> tags;
+
+    private final List<ZoneCard> zones;
+
+    private final List<StudyMemberCard> managers;
+
+    private final List<StudyMemberCard> members;
+
+    public String getImage() {
+        return imageHash != null ? "/study-images/" + imageHash : "/images/default_banner.png";
+    }
+
+    public String getEncodedPath() {
+        return URLEncoder.encode(this.path, StandardCharsets.UTF_8);
+    }
+
+    //html 파일에서 method 직접 호출이 가능
+    public boolean isJoinable(UserAccount userAccount) {
+        return this.published && this.recruiting && !isMember(userAccount) && !isManager(userAccount);
+    }
+
+    public boolean isMember(UserAccount userAccount) {
+        return contains(members, userAccount.getAccount());
+    }
+
+    public boolean isManager(UserAccount userAccount) {
+        return contains(managers, userAccount.getAccount());
+    }
+
+    public boolean isManagerOf(Account account) {
+        return contains(managers, account);
+    }
+
+    public boolean isRemovable() {
+        return !this.published;
+    }
+
+    private boolean contains(List<StudyMemberCard> cards, Account account) {
+        return cards.stream().anyMatch(card -> card.getId().equals(account.getId()));
+    }
+}
@@ -0,0 +1,24 @@
+package com.lkj.study.modules.study;
+
+import com.lkj.study.infra.blob.BlobResponses;
+import com.lkj.study.infra.blob.BlobStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+
+@Controller
+@RequiredArgsConstructor
+public class StudyImageController {
+
+    private final BlobStore blobStore;
+
+    @GetMapping("/study-images/{hash}")
+    public ResponseEntity<Resource> studyImage(@PathVariable String hash) {
+        return blobStore.find(hash)
+                .map(BlobResponses::of)
+                .orElseGet(BlobResponses::notFound);
+    }
+}
@@ -0,0 +1,25 @@
+package com.lkj.study.modules.study;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 스터디 구성원(관리자, 멤버) 목록 한 줄에 필요한 계정 정보
+ * Account 엔티티 대신 필요한 컬럼만 조회
+ */
+@Getter
+@RequiredArgsConstructor
+public class StudyMemberCard {
+
+    private final Long id;
+
+    private final String nickname;
+
+    private final String bio;
+
+    private final String profileImageHash;
+
+    public String getProfileImage() {
+        return profileImageHash != null ? "/profile-images/" + profileImageHash : null;
+    }
+}
@@ -0,0 +1,120 @@
+package com.lkj.study.modules.study;
+
+import com.lkj.study.modules.study.event.StudyChangedEvent;
+import com.lkj.study.modules.study.event.StudyCreatedEvent;
+import com.lkj.study.modules.study.event.StudyUpdateEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 스터디 경로 -> 스터디 요약 정보(id 포함) 캐시
+ * /study/{path} 아래 요청마다 path unique index 조회 + 엔티티 로딩을 반복하지 않도록 최근에 사용한 MAX_SIZE 개만 보관(LRU)
+ * 경로 변경, 삭제, 공개/종료, 태그/지역 변경 등 스터디 이벤트가 commit 되면 해당 스터디를 캐시에서 제거
+ */
+@Component
+public class StudyPathCache {
+
+    static final int MAX_SIZE = 10_000;
+
+    private final StudyRepository studyRepository;
+
+    private final Map<String, StudySummary> summaryByPath = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, StudySummary> eldest) {
+            if (size() > MAX_SIZE) {
+                pathById.remove(eldest.getValue().getId());
+                return true;
+            }
+            return false;
+        }
+    };
+
+    private final Map<Long, String> pathById = new HashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private long generation;
+
+    public StudyPathCache(StudyRepository studyRepository, MeterRegistry meterRegistry) {
+        this.studyRepository = studyRepository;
+        FunctionCounter.builder("study.path.cache", hits, LongAdder::sum).tag("result", "hit").register(meterRegistry);
+        FunctionCounter.builder("study.path.cache", misses, LongAdder::sum).tag("result", "miss").register(meterRegistry);
+        Gauge.builder("study.path.cache.size", this, StudyPathCache::size).register(meterRegistry);
+    }
+
+    public StudySummary getSummary(String path) {
+        long loadGeneration;
+        synchronized (this) {
+            StudySummary summary = summaryByPath.get(path);
+            if (summary != null) {
+                hits.increment();
+                return summary;
+            }
+            loadGeneration = generation;
+        }
+
+        misses.increment();
+        StudySummary summary = studyRepository.findSummaryByPath(path);
+        if (summary != null) {
+            put(summary, loadGeneration);
+        }
+        return summary;
+    }
+
+    public Long getId(String path) {
+        StudySummary summary = getSummary(path);
+        return summary != null ? summary.getId() : null;
+    }
+
+    public synchronized void evict(Long studyId) {
+        generation++;
+        String path = pathById.remove(studyId);
+        if (path != null) {
+            summaryByPath.remove(path);
+        }
+    }
+
+    public synchronized int size() {
+        return summaryByPath.size();
+    }
+
+    @TransactionalEventListener
+    public void handleStudyCreatedEvent(StudyCreatedEvent studyCreatedEvent) {
+        evict(studyCreatedEvent.getStudy().getId());
+    }
+
+    @TransactionalEventListener
+    public void handleStudyUpdateEvent(StudyUpdateEvent studyUpdateEvent) {
+        evict(studyUpdateEvent.getStudy().getId());
+    }
+
+    @TransactionalEventListener
+    public void handleStudyChangedEvent(StudyChangedEvent studyChangedEvent) {
+        evict(studyChangedEvent.getStudy().getId());
+    }
+
+    /**
+     * DB 조회 중에 무효화가 있었다면 읽어 온 값이 이미 오래된 값일 수 있으므로 캐시에 넣지 않음
+     */
+    private synchronized void put(StudySummary summary, long loadGeneration) {
+        if (loadGeneration != generation) {
+            return;
+        }
+
+        String oldPath = pathById.put(summary.getId(), summary.getPath());
+        if (oldPath != null && !oldPath.equals(summary.getPath())) {
+            summaryByPath.remove(oldPath);
+        }
+        summaryByPath.put(summary.getPath(), summary);
+    }
+}
@@ -0,0 +1,265 @@
+package com.lkj.study.modules.study;
+
+import com.lkj.study.modules.account.Account;
+import com.lkj.study.modules.account.event.AccountInterestChangedEvent;
+import com.lkj.study.modules.study.event.StudyChangedEvent;
+import com.lkj.study.modules.study.event.StudyCreatedEvent;
+import com.lkj.study.modules.study.event.StudyUpdateEvent;
+import com.lkj.study.modules.tag.Tag;
+import com.lkj.study.modules.zone.Zone;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 계정별 추천 스터디 목록(관심 주제와 활동 지역이 모두 겹치는 공개 스터디, 최근 공개 순 LIMIT 개)
+ * 첫 화면마다 스터디 전체에 대해 tag/zone 조건을 다시 계산하지 않도록 계산한 목록을 보관하고 변경분만 반영
+ * - 스터디 공개/태그/지역 변경 -> 보관 중인 목록마다 조건에 맞으면 순서에 맞게 끼워 넣음
+ * - 목록에 있던 스터디가 조건에서 빠짐(종료, 삭제, 태그 제거 등) -> 빈 자리를 채워야 하므로 해당 목록은 버리고 다음 조회 때 다시 계산
+ * - 계정의 관심 주제/활동 지역 변경 -> 해당 계정 목록을 버림
+ * 스터디가 바뀔 때마다 보관 중인 목록 전체를 훑지 않도록 목록을 관심 주제, 활동 지역, 들어있는 스터디로 색인해 두고
+ * 바뀐 스터디의 tag(또는 zone) 를 가진 목록과 그 스터디가 들어있는 목록만 확인
+ * 가입/탈퇴(StudyMemberChangedEvent)는 조건에 영향이 없으므로 받지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class StudyRecommendations {
+
+    static final int LIMIT = 9;
+
+    static final int MAX_SIZE = 10_000;
+
+    private final StudyRepository studyRepository;
+
+    private final Map<Long, Recommendation> recommendationByAccountId = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Recommendation> eldest) {
+            if (size() > MAX_SIZE) {
+                unindex(eldest.getValue());
+                return true;
+            }
+            return false;
+        }
+    };
+
+    private final Map<Long, Set<Recommendation>> recommendationsByTagId = new HashMap<>();
+
+    private final Map<Long, Set<Recommendation>> recommendationsByZoneId = new HashMap<>();
+
+    private final Map<Long, Set<Recommendation>> recommendationsByStudyId = new HashMap<>();
+
+    private long generation;
+
+    /**
+     * account 는 tags, zones 가 로딩된 상태여야 함
+     */
+    public List<Study> getStudies(Account account) {
+        List<Long> ids = getStudyIds(account);
+        return ids.isEmpty() ? Collections.emptyList() : studyRepository.findWithTagsAndZonesInOrder(ids);
+    }
+
+    List<Long> getStudyIds(Account account) {
+        long loadGeneration;
+        synchronized (this) {
+            Recommendation recommendation = recommendationByAccountId.get(account.getId());
+            if (recommendation != null) {
+                return recommendation.getStudyIds();
+            }
+            loadGeneration = generation;
+        }
+
+        Recommendation recommendation = load(account);
+        synchronized (this) {
+            if (loadGeneration == generation) {
+                put(recommendation);
+            }
+        }
+        return recommendation.getStudyIds();
+    }
+
+    public synchronized void evict(Long accountId) {
+        generation++;
+        remove(recommendationByAccountId.get(accountId));
+    }
+
+    public synchronized int size() {
+        return recommendationByAccountId.size();
+    }
+
+    @TransactionalEventListener
+    public void handleAccountInterestChangedEvent(AccountInterestChangedEvent accountInterestChangedEvent) {
+        evict(accountInterestChangedEvent.getAccountId());
+    }
+
+    @TransactionalEventListener
+    public void handleStudyCreatedEvent(StudyCreatedEvent studyCreatedEvent) {
+        refresh(studyCreatedEvent.getStudy().getId());
+    }
+
+    @TransactionalEventListener
+    public void handleStudyUpdateEvent(StudyUpdateEvent studyUpdateEvent) {
+        refresh(studyUpdateEvent.getStudy().getId());
+    }
+
+    @TransactionalEventListener
+    public void handleStudyChangedEvent(StudyChangedEvent studyChangedEvent) {
+        refresh(studyChangedEvent.getStudy().getId());
+    }
+
+    /**
+     * 이벤트의 스터디 객체는 tags, zones 가 로딩되지 않았을 수 있으므로 commit 된 상태를 다시 읽어서 반영
+     */
+    void refresh(Long studyId) {
+        Study study = studyRepository.findStudyWithTagsAndZonesByIdIn(List.of(studyId)).stream()
+                .findFirst()
+                .orElse(null);
+        boolean open = study != null && study.isPublished() && !study.isClosed();
+        Set<Long> tagIds = open ? study.getTags().stream().map(Tag::getId).collect(Collectors.toSet()) : Set.of();
+        Set<Long> zoneIds = open ? study.getZones().stream().map(Zone::getId).collect(Collectors.toSet()) : Set.of();
+
+        synchronized (this) {
+            generation++;
+            Set<Recommendation> candidates = new HashSet<>(recommendationsByStudyId.getOrDefault(studyId, Set.of()));
+            if (open) {
+                candidates.addAll(findByTagsOrZones(tagIds, zoneIds));
+            }
+
+            for (Recommendation recommendation : candidates) {
+                boolean matches = open && recommendation.matches(tagIds, zoneIds);
+                boolean contains = recommendation.contains(studyId);
+                if (contains && !matches) {
+                    remove(recommendation);
+                } else if (!contains && matches) {
+                    offer(recommendation, new RecommendedStudy(study.getId(), study.getPublishedDateTime()));
+                }
+            }
+        }
+    }
+
+    /**
+     * 스터디의 tag, zone 중 걸리는 목록이 적은 쪽의 색인에서 후보를 찾음, 나머지 조건은 matches 로 확인
+     */
+    private Set<Recommendation> findByTagsOrZones(Set<Long> tagIds, Set<Long> zoneIds) {
+        List<Set<Recommendation>> byTags = lookup(recommendationsByTagId, tagIds);
+        List<Set<Recommendation>> byZones = lookup(recommendationsByZoneId, zoneIds);
+        List<Set<Recommendation>> smaller = sizeOf(byTags) <= sizeOf(byZones) ? byTags : byZones;
+
+        Set<Recommendation> candidates = new HashSet<>();
+        smaller.forEach(candidates::addAll);
+        return candidates;
+    }
+
+    private List<Set<Recommendation>> lookup(Map<Long, Set<Recommendation>> index, Set<Long> ids) {
+        return ids.stream()
+                .map(index::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private int sizeOf(List<Set<Recommendation>> sets) {
+        return sets.stream().mapToInt(Set::size).sum();
+    }
+
+    private void put(Recommendation recommendation) {
+        remove(recommendationByAccountId.get(recommendation.accountId));
+        recommendationByAccountId.put(recommendation.accountId, recommendation);
+        recommendation.tagIds.forEach(id -> add(recommendationsByTagId, id, recommendation));
+        recommendation.zoneIds.forEach(id -> add(recommendationsByZoneId, id, recommendation));
+        recommendation.studies.forEach(study -> add(recommendationsByStudyId, study.getId(), recommendation));
+    }
+
+    private void remove(Recommendation recommendation) {
+        if (recommendation != null) {
+            recommendationByAccountId.remove(recommendation.accountId);
+            unindex(recommendation);
+        }
+    }
+
+    private void unindex(Recommendation recommendation) {
+        recommendation.tagIds.forEach(id -> remove(recommendationsByTagId, id, recommendation));
+        recommendation.zoneIds.forEach(id -> remove(recommendationsByZoneId, id, recommendation));
+        recommendation.studies.forEach(study -> remove(recommendationsByStudyId, study.getId(), recommendation));
+    }
+
+    private void offer(Recommendation recommendation, RecommendedStudy study) {
+        add(recommendationsByStudyId, study.getId(), recommendation);
+        RecommendedStudy dropped = recommendation.offer(study);
+        if (dropped != null) {
+            remove(recommendationsByStudyId, dropped.getId(), recommendation);
+        }
+    }
+
+    private static void add(Map<Long, Set<Recommendation>> index, Long id, Recommendation recommendation) {
+        index.computeIfAbsent(id, key -> new HashSet<>()).add(recommendation);
+    }
+
+    private static void remove(Map<Long, Set<Recommendation>> index, Long id, Recommendation recommendation) {
+        Set<Recommendation> recommendations = index.get(id);
+        if (recommendations != null && recommendations.remove(recommendation) && recommendations.isEmpty()) {
+            index.remove(id);
+        }
+    }
+
+    private Recommendation load(Account account) {
+        Set<Long> tagIds = account.getTags().stream().map(Tag::getId).collect(Collectors.toSet());
+        Set<Long> zoneIds = account.getZones().stream().map(Zone::getId).collect(Collectors.toSet());
+        List<RecommendedStudy> studies = tagIds.isEmpty() || zoneIds.isEmpty()
+                ? Collections.emptyList()
+                : studyRepository.findRecommendedStudies(account.getTags(), account.getZones(), LIMIT);
+        return new Recommendation(account.getId(), tagIds, zoneIds, studies);
+    }
+
+    /**
+     * 목록이 LIMIT 보다 짧다면 조건에 맞는 스터디가 모두 들어있는 상태
+     * 색인의 key 로 쓰이므로 equals/hashCode 는 재정의하지 않음(객체 자체로 구분)
+     */
+    private static class Recommendation {
+
+        private final Long accountId;
+
+        private final Set<Long> tagIds;
+
+        private final Set<Long> zoneIds;
+
+        private final List<RecommendedStudy> studies;
+
+        private Recommendation(Long accountId, Set<Long> tagIds, Set<Long> zoneIds, List<RecommendedStudy> studies) {
+            this.accountId = accountId;
+            this.tagIds = tagIds;
+            this.zoneIds = zoneIds;
+            this.studies = new ArrayList<>(studies);
+        }
+
+        boolean matches(Set<Long> studyTagIds, Set<Long> studyZoneIds) {
+            return !Collections.disjoint(tagIds, studyTagIds) && !Collections.disjoint(zoneIds, studyZoneIds);
+        }
+
+        boolean contains(Long studyId) {
+            return studies.stream().anyMatch(study -> study.getId().equals(studyId));
+        }
+
+        /**
+         * LIMIT 를 넘어서 목록에서 밀려난 스터디를 돌려줌
+         */
+        RecommendedStudy offer(RecommendedStudy study) {
+            int index = Collections.binarySearch(studies, study);
+            studies.add(index < 0 ? -(index + 1) : index, study);
+            return studies.size() > LIMIT ? studies.remove(studies.size() - 1) : null;
+        }
+
+        List<Long> getStudyIds() {
+            return studies.stream().map(RecommendedStudy::getId).collect(Collectors.toUnmodifiableList());
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.lkj.study.modules.account.Account;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface StudyRepository extends JpaRepository<Study, Long>, StudyRepositoryExtension {
@@ -14,26 +15,31 @@ public interface StudyRepository extends JpaRepository<Study, Long>, StudyReposi
      * FETCH : entity graph 에 명시한 attribute -> EAGER, 나머지 attribute -> LAZY 로 fetch
      * LOAD : entity graph 에 명시한 attribute -> EAGER, 나머지 attribute -> entity 에 명시한 fetch type 이나 디폴트 FetchType 으로 패치
      * (e.g. @OneToMany -> LAZY, @ManyToOne -> EAGER 등이 디폴트이다.)
+     *
+     * tags, zones, managers, members 를 모두 가져오는 findByPath 는 하나의 entity graph 로 조회하면 카테시안 곱이 되므로
+     * StudyRepositoryExtension 에서 컬렉션별로 나누어 조회
+     *
+     * /study/{path} 화면은 StudyPathCache 로 경로 -> id 를 찾은 뒤 id(PK)로 조회
      */
     //@EntityGraph(value = "Study.withAll", type = EntityGraph.EntityGraphType.LOAD)
-    @EntityGraph(attributePaths = {"tags", "zones", "managers", "members"}, type = EntityGraph.EntityGraphType.LOAD)
-    Study findByPath(String path);
+    //@EntityGraph(attributePaths = {"tags", "zones", "managers", "members"}, type = EntityGraph.EntityGraphType.LOAD)
+    //Study findByPath(String path);
 
     //@EntityGraph(value = "Study.withTagsAndManagers", type = EntityGraph.EntityGraphType.FETCH)
     @EntityGraph(attributePaths = {"tags", "managers"})
-    Study findStudyWithTagsByPath(String path); //default -> EntityGraph.EntityGraphType.FETCH
+    Study findStudyWithTagsById(Long id); //default -> EntityGraph.EntityGraphType.FETCH
 
     //@EntityGraph(value = "Study.withZonesAndManagers", type = EntityGraph.EntityGraphType.FETCH)
     @EntityGraph(attributePaths = {"zones", "managers"})
-    Study findStudyWithZonesByPath(String path);
+    Study findStudyWithZonesById(Long id);
 
     //@EntityGraph(value = "Study.withManagers", type = EntityGraph.EntityGraphType.FETCH)
     @EntityGraph(attributePaths = "managers")
-    Study findStudyWithManagersByPath(String path);
+    Study findStudyWithManagersById(Long id);
 
     //@EntityGraph(value = "Study.withMembers", type = EntityGraph.EntityGraphType.FETCH)
     @EntityGraph(attributePaths = "members")
-    Study findStudyWithMembersByPath(String path);
+    Study findStudyWithMembersById(Long id);
 
     Study findStudyOnlyByPath(String path);
 
@@ -41,6 +47,9 @@ public interface StudyRepository extends JpaRepository<Study, Long>, StudyReposi
     @EntityGraph(attributePaths = {"zones", "tags"})
     Study findStudyWithTagsAndZonesById(Long id);
 
+    @EntityGraph(attributePaths = {"zones", "tags"})
+    List<Study> findStudyWithTagsAndZonesByIdIn(Collection<Long> ids);
+
     @EntityGraph(attributePaths = {"members", "managers"})
     Study findStudyWithManagersAndMemebersById(Long id);
 
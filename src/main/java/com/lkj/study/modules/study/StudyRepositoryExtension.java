@@ -1,5 +1,7 @@
 package com.lkj.study.modules.study;
 
+import com.lkj.study.modules.study.search.StudyScroll;
+import com.lkj.study.modules.study.search.StudySearchCursor;
 import com.lkj.study.modules.tag.Tag;
 import com.lkj.study.modules.zone.Zone;
 import org.springframework.data.domain.Page;
@@ -12,8 +14,26 @@ import java.util.Set;
 @Transactional(readOnly = true)
 public interface StudyRepositoryExtension {
 
+    String RELEVANCE = "relevance";
+
+    Study findByPath(String path);
+
+    Study findWithAllById(Long id);
+
     Page<Study> findByKeyword(String keyword, Pageable pageable);
 
-    List<Study> findByAccount(Set<Tag> tags, Set<Zone> zones);
+    StudyScroll findByKeyword(String keyword, StudySearchCursor cursor, int size, boolean withTotal);
+
+    List<RecommendedStudy> findRecommendedStudies(Set<Tag> tags, Set<Zone> zones, int limit);
+
+    List<Study> findWithTagsAndZonesInOrder(List<Long> ids);
+
+    List<Long> findPublishedStudyIds(Long lastId, int limit);
+
+    StudySummary findSummaryByPath(String path);
+
+    StudyHeader findHeaderById(Long id, boolean withFullDescription);
+
+    StudyHeader findHeaderWithManagersById(Long id);
 }
 
@@ -1,54 +1,297 @@
 package com.lkj.study.modules.study;
 
+import com.lkj.study.modules.account.Account;
 import com.lkj.study.modules.account.QAccount;
+import com.lkj.study.modules.study.search.StudyScroll;
+import com.lkj.study.modules.study.search.StudySearchCursor;
+import com.lkj.study.modules.study.search.StudySearchHit;
+import com.lkj.study.modules.study.search.StudySearchIndex;
 import com.lkj.study.modules.tag.QTag;
 import com.lkj.study.modules.tag.Tag;
 import com.lkj.study.modules.zone.QZone;
 import com.lkj.study.modules.zone.Zone;
-import com.querydsl.core.QueryResults;
-import com.querydsl.jpa.JPQLQuery;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.SetPath;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 public class StudyRepositoryExtensionImpl extends QuerydslRepositorySupport implements StudyRepositoryExtension {
 
-    public StudyRepositoryExtensionImpl() {
+    private final StudySearchIndex studySearchIndex;
+
+    public StudyRepositoryExtensionImpl(StudySearchIndex studySearchIndex) {
         super(Study.class);
+        this.studySearchIndex = studySearchIndex;
     }
 
+    /**
+     * tags, zones, managers, members 를 하나의 쿼리로 join 하면 row 수가 각 컬렉션 크기의 곱이 됨
+     * (멤버 200명, 태그 10개, 지역 5개 -> 10,000 row)
+     * 스터디를 먼저 조회하고 같은 영속성 컨텍스트 안에서 컬렉션마다 fetch join 쿼리를 따로 실행해서 이미 조회한 스터디의 컬렉션을 채움
+     * -> row 수는 각 컬렉션 크기의 합
+     */
     @Override
-    public Page<Study> findByKeyword(String keyword, Pageable pageable) {
+    public Study findByPath(String path) {
         QStudy study = QStudy.study;
-        JPQLQuery<Study> query = from(study).where(study.published.isTrue()
-                .and(study.title.containsIgnoreCase(keyword))
-                .or(study.tags.any().title.containsIgnoreCase(keyword))
-                .or(study.zones.any().localNameOfCity.containsIgnoreCase(keyword)))
-                .leftJoin(study.tags, QTag.tag).fetchJoin()
-                .leftJoin(study.zones, QZone.zone).fetchJoin()
-                .distinct();
+        return fetchCollections(from(study).where(study.path.eq(path)).fetchOne());
+    }
+
+    @Override
+    public Study findWithAllById(Long id) {
+        QStudy study = QStudy.study;
+        return fetchCollections(from(study).where(study.id.eq(id)).fetchOne());
+    }
+
+    private Study fetchCollections(Study found) {
+        if (found == null) {
+            return null;
+        }
+
+        QStudy study = QStudy.study;
+        from(study).leftJoin(study.tags, QTag.tag).fetchJoin().where(study.id.eq(found.getId())).fetch();
+        from(study).leftJoin(study.zones, QZone.zone).fetchJoin().where(study.id.eq(found.getId())).fetch();
+        from(study).leftJoin(study.managers, QAccount.account).fetchJoin().where(study.id.eq(found.getId())).fetch();
+        from(study).leftJoin(study.members, QAccount.account).fetchJoin().where(study.id.eq(found.getId())).fetch();
+        return found;
+    }
+
+    /**
+     * LIKE '%keyword%' 는 index 를 탈 수 없어 study, tag, zone 테이블을 모두 scan
+     * 검색 색인에서 일치하는 스터디와 정렬 값을 찾아 정렬/페이징까지 하고, DB 에서는 해당 페이지의 스터디만 조회
+     * -> 일치하는 스터디가 많아도 DB 로 보내는 id 는 페이지 크기만큼, 전체 개수도 색인 결과 수
+     */
+    @Override
+    public Page<Study> findByKeyword(String keyword, Pageable pageable) {
+        List<StudySearchHit> hits = studySearchIndex.searchHits(keyword);
+        List<Long> pageIds = hits.stream()
+                .sorted(order(pageable.getSort()))
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .map(StudySearchHit::getStudyId)
+                .collect(Collectors.toList());
+        return new PageImpl<>(findWithTagsAndZones(pageIds), pageable, hits.size());
+    }
+
+    /**
+     * keyset(seek) 페이징
+     * offset 방식은 뒤 페이지로 갈수록 앞의 row 를 모두 읽고 버려야 하므로 느려짐
+     * 색인에 보관한 정렬 값으로 (정렬 값, id) 가 cursor 보다 작은 결과 중 size + 1 개를 골라서 다음 페이지 여부를 판단하고,
+     * DB 에서는 그 페이지의 스터디만 조회 -> 페이지마다 DB 비용이 일정, count 는 요청한 경우에만 색인 결과 수로 계산
+     */
+    @Override
+    public StudyScroll findByKeyword(String keyword, StudySearchCursor cursor, int size, boolean withTotal) {
+        List<StudySearchHit> hits = studySearchIndex.searchHits(keyword);
+        List<StudySearchHit> pageHits = hits.stream()
+                .filter(hit -> cursor.isFirst() || cursor.isBefore(hit))
+                .sorted(order(Sort.by(Sort.Direction.DESC, cursor.getSortProperty())))
+                .limit(size + 1)
+                .collect(Collectors.toList());
+
+        boolean hasNext = pageHits.size() > size;
+        if (hasNext) {
+            pageHits = pageHits.subList(0, size);
+        }
+        List<Study> content = findWithTagsAndZones(pageHits.stream()
+                .map(StudySearchHit::getStudyId)
+                .collect(Collectors.toList()));
+        String nextCursor = hasNext
+                ? StudySearchCursor.after(pageHits.get(pageHits.size() - 1), cursor.getSortProperty()).encode()
+                : null;
+        return new StudyScroll(content, nextCursor, withTotal ? (long) hits.size() : null);
+    }
 
-        JPQLQuery<Study> pageableQuery = getQuerydsl().applyPagination(pageable, query);
-        QueryResults<Study> fetchResults = pageableQuery.fetchResults();
-        return new PageImpl<>(fetchResults.getResults(), pageable, fetchResults.getTotal());
+    @Override
+    public List<RecommendedStudy> findRecommendedStudies(Set<Tag> tags, Set<Zone> zones, int limit) {
+        QStudy study = QStudy.study;
+        return from(study)
+                .select(Projections.constructor(RecommendedStudy.class, study.id, study.publishedDateTime))
+                .where(study.published.isTrue()
+                        .and(study.closed.isFalse())
+                        .and(study.tags.any().in(tags))
+                        .and(study.zones.any().in(zones)))
+                .orderBy(study.publishedDateTime.desc(), study.id.desc())
+                .limit(limit)
+                .fetch();
     }
 
     @Override
-    public List<Study> findByAccount(Set<Tag> tags, Set<Zone> zones) {
+    public List<Study> findWithTagsAndZonesInOrder(List<Long> ids) {
+        return findWithTagsAndZones(ids);
+    }
+
+    /**
+     * 정렬 기준은 공개 일시, 멤버 수, 관련도 중 첫 번째 것만 사용하고 같은 값이면 id 순
+     */
+    private Comparator<StudySearchHit> order(Sort sort) {
+        Sort.Order order = sort.stream().findFirst()
+                .orElse(Sort.Order.desc(StudySearchCursor.PUBLISHED_DATE_TIME));
+        Comparator<StudySearchHit> comparator;
+        switch (order.getProperty()) {
+            case RELEVANCE:
+                comparator = Comparator.comparingDouble(StudySearchHit::getScore);
+                break;
+            case StudySearchCursor.MEMBER_COUNT:
+                comparator = Comparator.comparingInt(StudySearchHit::getMemberCount);
+                break;
+            case StudySearchCursor.PUBLISHED_DATE_TIME:
+                comparator = Comparator.comparing(StudySearchHit::getPublishedDateTime,
+                        Comparator.nullsFirst(Comparator.naturalOrder()));
+                break;
+            default:
+                throw new IllegalArgumentException(order.getProperty() + "는 지원하지 않는 정렬 기준입니다.");
+        }
+        comparator = comparator.thenComparing(StudySearchHit::getStudyId);
+        return order.isAscending() ? comparator : comparator.reversed();
+    }
+
+    /**
+     * ids 순서를 유지한 채로 tags, zones 까지 한 번에 조회
+     */
+    private List<Study> findWithTagsAndZones(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+
         QStudy study = QStudy.study;
-        JPQLQuery<Study> query = from(study).where(study.published.isTrue()
-                .and(study.closed.isFalse())
-                .and(study.tags.any().in(tags))
-                .and(study.zones.any().in(zones)))
+        Map<Long, Study> studies = from(study).where(study.id.in(ids))
                 .leftJoin(study.tags, QTag.tag).fetchJoin()
                 .leftJoin(study.zones, QZone.zone).fetchJoin()
-                .orderBy(study.publishedDateTime.desc())
                 .distinct()
-                .limit(9);
-        return query.fetch();
+                .fetch().stream()
+                .collect(Collectors.toMap(Study::getId, Function.identity()));
+        return ids.stream()
+                .map(studies::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Long> findPublishedStudyIds(Long lastId, int limit) {
+        QStudy study = QStudy.study;
+        return from(study).select(study.id)
+                .where(study.published.isTrue().and(study.id.gt(lastId)))
+                .orderBy(study.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public StudySummary findSummaryByPath(String path) {
+        QStudy study = QStudy.study;
+        return from(study)
+                .select(Projections.constructor(StudySummary.class,
+                        study.id, study.path, study.title, study.shortDescription,
+                        study.published, study.closed, study.recruiting))
+                .where(study.path.eq(path))
+                .fetchOne();
+    }
+
+    /**
+     * 스터디 컬럼(fullDescription 은 필요한 경우만), 태그, 지역, 관리자, 멤버를 각각 필요한 컬럼만 projection 으로 조회
+     * 엔티티를 만들지 않으므로 Lob 이나 Account 의 다른 컬럼은 읽지 않음
+     */
+    @Override
+    public StudyHeader findHeaderById(Long id, boolean withFullDescription) {
+        StudyHeader.StudyHeaderBuilder header = headerOf(id, withFullDescription);
+        if (header == null) {
+            return null;
+        }
+
+        QStudy study = QStudy.study;
+        QTag tag = QTag.tag;
+        QZone zone = QZone.zone;
+        QAccount account = QAccount.account;
+        return header
+                .tags(from(study).join(study.tags, tag)
+                        .select(Projections.constructor(StudyCard.TagCard.class, tag.title))
+                        .where(study.id.eq(id))
+                        .fetch())
+                .zones(from(study).join(study.zones, zone)
+                        .select(Projections.constructor(StudyCard.ZoneCard.class,
+                                zone.id, zone.city, zone.localNameOfCity, zone.province))
+                        .where(study.id.eq(id))
+                        .fetch())
+                .managers(findMemberCards(study.managers, id))
+                .members(findMemberCards(study.members, id))
+                .build();
+    }
+
+    /**
+     * 모임 화면처럼 스터디 이름과 관리자 여부만 필요한 경우, 스터디 컬럼과 관리자만 조회(태그, 지역, 멤버는 빈 목록)
+     */
+    @Override
+    public StudyHeader findHeaderWithManagersById(Long id) {
+        StudyHeader.StudyHeaderBuilder header = headerOf(id, false);
+        if (header == null) {
+            return null;
+        }
+
+        return header
+                .tags(Collections.emptyList())
+                .zones(Collections.emptyList())
+                .managers(findMemberCards(QStudy.study.managers, id))
+                .members(Collections.emptyList())
+                .build();
+    }
+
+    private StudyHeader.StudyHeaderBuilder headerOf(Long id, boolean withFullDescription) {
+        QStudy study = QStudy.study;
+        List<Expression<?>> columns = new ArrayList<>(List.of(study.id, study.path, study.title, study.shortDescription,
+                study.published, study.closed, study.closedDateTime, study.recruiting, study.useBanner,
+                study.imageHash, study.memberCount));
+        if (withFullDescription) {
+            columns.add(study.fullDescription);
+        }
+
+        Tuple row = from(study).select(columns.toArray(new Expression<?>[0]))
+                .where(study.id.eq(id))
+                .fetchOne();
+        if (row == null) {
+            return null;
+        }
+
+        return StudyHeader.builder()
+                .id(row.get(study.id))
+                .path(row.get(study.path))
+                .title(row.get(study.title))
+                .shortDescription(row.get(study.shortDescription))
+                .fullDescription(withFullDescription ? row.get(study.fullDescription) : null)
+                .published(Boolean.TRUE.equals(row.get(study.published)))
+                .closed(Boolean.TRUE.equals(row.get(study.closed)))
+                .closedDateTime(row.get(study.closedDateTime))
+                .recruiting(Boolean.TRUE.equals(row.get(study.recruiting)))
+                .useBanner(Boolean.TRUE.equals(row.get(study.useBanner)))
+                .imageHash(row.get(study.imageHash))
+                .memberCount(Objects.requireNonNullElse(row.get(study.memberCount), 0));
+    }
+
+    private List<StudyMemberCard> findMemberCards(SetPath<Account, QAccount> accounts, Long id) {
+        QStudy study = QStudy.study;
+        QAccount account = QAccount.account;
+        return from(study).join(accounts, account)
+                .select(memberCard(account))
+                .where(study.id.eq(id))
+                .orderBy(account.id.asc())
+                .fetch();
+    }
+
+    private Expression<StudyMemberCard> memberCard(QAccount account) {
+        return Projections.constructor(StudyMemberCard.class,
+                account.id, account.nickname, account.bio, account.profileImageHash);
     }
 }
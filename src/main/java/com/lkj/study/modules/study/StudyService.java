@@ -1,7 +1,10 @@
 package com.lkj.study.modules.study;
 
+import com.lkj.study.infra.blob.BlobStore;
 import com.lkj.study.modules.account.Account;
+import com.lkj.study.modules.study.event.StudyChangedEvent;
 import com.lkj.study.modules.study.event.StudyCreatedEvent;
+import com.lkj.study.modules.study.event.StudyMemberChangedEvent;
 import com.lkj.study.modules.study.event.StudyUpdateEvent;
 import com.lkj.study.modules.tag.Tag;
 import com.lkj.study.modules.tag.TagRepository;
@@ -16,6 +19,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.HashSet;
+import java.util.function.Function;
 
 import static com.lkj.study.modules.study.form.StudyForm.VALID_PATH_PATTERN;
 
@@ -26,6 +30,8 @@ import static com.lkj.study.modules.study.form.StudyForm.VALID_PATH_PATTERN;
 public class StudyService {
 
     private final StudyRepository studyRepository;
+    private final StudyPathCache studyPathCache;
+    private final BlobStore blobStore;
     private final ModelMapper modelMapper;
     private final ApplicationEventPublisher eventPublisher;
 
@@ -43,10 +49,26 @@ public class StudyService {
     }
 
     public Study getStudy(String path) {
-        Study study = studyRepository.findByPath(path);
+        return findByPath(path, studyRepository::findWithAllById, Study::getPath);
+    }
 
-        checkIfExistingStudy(path, study);
-        return study;
+    /**
+     * 화면 표시용 조회, 엔티티 대신 projection 사용
+     */
+    public StudyHeader getStudyHeader(String path, boolean withFullDescription) {
+        return findByPath(path, id -> studyRepository.findHeaderById(id, withFullDescription), StudyHeader::getPath);
+    }
+
+    public StudyHeader getStudyHeaderWithManagers(String path) {
+        return findByPath(path, studyRepository::findHeaderWithManagersById, StudyHeader::getPath);
+    }
+
+    public StudyHeader getStudyHeaderToUpdate(Account account, String path, boolean withFullDescription) {
+        StudyHeader studyHeader = getStudyHeader(path, withFullDescription);
+        if (!studyHeader.isManagerOf(account)) {
+            throw new AccessDeniedException("해당 기능을 사용할 수 없습니다.");
+        }
+        return studyHeader;
     }
 
     public void updateStudyDescription(Study study, StudyDescriptionForm studyDescriptionForm) {
@@ -55,7 +77,8 @@ public class StudyService {
     }
 
     public void updateStudyImage(Study study, String image) {
-        study.setImage(image);
+        study.setImageHash(blobStore.saveImageDataUrl(image));
+        eventPublisher.publishEvent(new StudyChangedEvent(study));
     }
 
     public void enableStudyBanner(Study study) {
@@ -68,37 +91,38 @@ public class StudyService {
 
     public void addTag(Study study, Tag tag) {
         study.getTags().add(tag);
+        eventPublisher.publishEvent(new StudyChangedEvent(study));
     }
 
     public void removeTag(Study study, Tag tag) {
         study.getTags().remove(tag);
+        eventPublisher.publishEvent(new StudyChangedEvent(study));
     }
 
     public void addZone(Study study, Zone zone) {
         study.getZones().add(zone);
+        eventPublisher.publishEvent(new StudyChangedEvent(study));
     }
 
     public void removeZone(Study study, Zone zone) {
         study.getZones().remove(zone);
+        eventPublisher.publishEvent(new StudyChangedEvent(study));
     }
 
     public Study getStudyToUpdateTag(Account account, String path) {
-        Study study = studyRepository.findStudyWithTagsByPath(path);
-        checkIfExistingStudy(path, study);
+        Study study = findByPath(path, studyRepository::findStudyWithTagsById, Study::getPath);
         checkIfManager(account, study);
         return study;
     }
 
     public Study getStudyToUpdateZone(Account account, String path) {
-        Study study = studyRepository.findStudyWithZonesByPath(path);
-        checkIfExistingStudy(path, study);
+        Study study = findByPath(path, studyRepository::findStudyWithZonesById, Study::getPath);
         checkIfManager(account, study);
         return study;
     }
 
     public Study getStudyToUpdateStatus(Account account, String path) {
-        Study study = studyRepository.findStudyWithManagersByPath(path);
-        checkIfExistingStudy(path, study);
+        Study study = findByPath(path, studyRepository::findStudyWithManagersById, Study::getPath);
         checkIfManager(account, study);
         return study;
     }
@@ -123,16 +147,33 @@ public class StudyService {
         eventPublisher.publishEvent(new StudyUpdateEvent(study, "팀원 모집을 중단했습니다."));
     }
 
-    private void checkIfManager(Account account, Study study) {
-        if (!study.isManagerOf(account)) {
-            throw new AccessDeniedException("해당 기능을 사용할 수 없습니다.");
-        }
+    public Study getStudyToUpdateMember(String path) {
+        return findByPath(path, studyRepository::findStudyWithMembersById, Study::getPath);
     }
 
-    private void checkIfExistingStudy(String path, Study study) {
-        if (study == null) {
+    /**
+     * /study/{path} 요청마다 path unique index 를 조회하지 않도록 StudyPathCache 에서 id 를 찾고, 이후 조회는 id(PK)로 함
+     * 캐시의 id 로 찾지 못했거나 경로가 다르면(rollback 된 생성, 무효화 전의 경로 변경/삭제) 캐시에서 빼고 한 번 더 조회
+     */
+    private <T> T findByPath(String path, Function<Long, T> finder, Function<T, String> pathOf) {
+        Long id = studyPathCache.getId(path);
+        T found = id != null ? finder.apply(id) : null;
+        if (id != null && (found == null || !path.equals(pathOf.apply(found)))) {
+            studyPathCache.evict(id);
+            id = studyPathCache.getId(path);
+            found = id != null ? finder.apply(id) : null;
+        }
+
+        if (found == null) {
             throw new IllegalArgumentException(path + "에 해당하는 스터디가 없습니다.");
         }
+        return found;
+    }
+
+    private void checkIfManager(Account account, Study study) {
+        if (!study.isManagerOf(account)) {
+            throw new AccessDeniedException("해당 기능을 사용할 수 없습니다.");
+        }
     }
 
     public boolean isValidPath(String newPath) {
@@ -145,6 +186,7 @@ public class StudyService {
 
     public void updateStudyPath(Study study, String newPath) {
         study.setPath(newPath);
+        eventPublisher.publishEvent(new StudyChangedEvent(study));
     }
 
     public boolean isValidTitle(String newTitle) {
@@ -153,11 +195,13 @@ public class StudyService {
 
     public void updateStudyTitle(Study study, String newTitle) {
         study.setTitle(newTitle);
+        eventPublisher.publishEvent(new StudyChangedEvent(study));
     }
 
     public void remove(Study study) {
         if (study.isRemovable()) {
             studyRepository.delete(study);
+            eventPublisher.publishEvent(new StudyChangedEvent(study));
         } else {
             throw new IllegalArgumentException("스터디를 삭제할 수 없습니다.");
         }
@@ -165,16 +209,23 @@ public class StudyService {
 
     public void addMember(Study study, Account account) {
         study.addMember(account);
+        eventPublisher.publishEvent(new StudyMemberChangedEvent(study));
     }
 
     public void removeMember(Study study, Account account) {
         study.removeMember(account);
+        eventPublisher.publishEvent(new StudyMemberChangedEvent(study));
     }
 
-    public Study getStudyToEnroll(String path) {
-        Study study = studyRepository.findStudyOnlyByPath(path);
-        checkIfExistingStudy(path, study);
-        return study;
+    /**
+     * 참가 신청/취소는 스터디의 존재 여부와 경로만 필요하므로 엔티티 대신 캐시된 요약 정보 사용
+     */
+    public StudySummary getStudyToEnroll(String path) {
+        StudySummary studySummary = studyPathCache.getSummary(path);
+        if (studySummary == null) {
+            throw new IllegalArgumentException(path + "에 해당하는 스터디가 없습니다.");
+        }
+        return studySummary;
     }
 
     /**
@@ -198,6 +249,7 @@ public class StudyService {
             Study newStudy = this.createNewStudy(study, account);
             Tag jpa = tagRepository.findByTitle("JPA");
             newStudy.getTags().add(jpa);
+            eventPublisher.publishEvent(new StudyChangedEvent(newStudy));
         }
     }
 }
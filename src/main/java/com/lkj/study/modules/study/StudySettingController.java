@@ -40,9 +40,9 @@ public class StudySettingController {
 
     @GetMapping("/description")
     public String viewStudySetting(@CurrentAccount Account account, @PathVariable String path, Model model) {
-        Study study = studyService.getStudyToUpdate(account, path);
+        StudyHeader study = studyService.getStudyHeaderToUpdate(account, path, true);
         model.addAttribute(account);
-        model.addAttribute(study);
+        model.addAttribute("study", study);
         model.addAttribute(modelMapper.map(study, StudyDescriptionForm.class));
         return "study/settings/description";
     }
@@ -66,9 +66,9 @@ public class StudySettingController {
 
     @GetMapping("/banner")
     public String studyImageForm(@CurrentAccount Account account, @PathVariable String path, Model model) {
-        Study study = studyService.getStudyToUpdate(account, path);
+        StudyHeader study = studyService.getStudyHeaderToUpdate(account, path, false);
         model.addAttribute(account);
-        model.addAttribute(study);
+        model.addAttribute("study", study);
         return "study/settings/banner";
     }
 
@@ -98,12 +98,12 @@ public class StudySettingController {
     @GetMapping("/tags")
     public String studyTagsForm(@CurrentAccount Account account, @PathVariable String path, Model model)
             throws JsonProcessingException {
-        Study study = studyService.getStudyToUpdate(account, path);
+        StudyHeader study = studyService.getStudyHeaderToUpdate(account, path, false);
         model.addAttribute(account);
-        model.addAttribute(study);
+        model.addAttribute("study", study);
 
         model.addAttribute("tags", study.getTags().stream()
-                .map(Tag::getTitle).collect(Collectors.toList()));
+                .map(StudyCard.TagCard::getTitle).collect(Collectors.toList()));
         List<String> allTagTitles = tagRepository.findAll().stream()
                 .map(Tag::getTitle).collect(Collectors.toList());
         model.addAttribute("whitelist", objectMapper.writeValueAsString(allTagTitles));
@@ -137,11 +137,11 @@ public class StudySettingController {
     @GetMapping("/zones")
     public String studyZonesForm(@CurrentAccount Account account, @PathVariable String path, Model model)
             throws JsonProcessingException {
-        Study study = studyService.getStudyToUpdate(account, path);
+        StudyHeader study = studyService.getStudyHeaderToUpdate(account, path, false);
         model.addAttribute(account);
-        model.addAttribute(study);
+        model.addAttribute("study", study);
         model.addAttribute("zones", study.getZones().stream()
-                .map(Zone::toString).collect(Collectors.toList()));
+                .map(StudyCard.ZoneCard::toString).collect(Collectors.toList()));
         List<String> allZones = zoneRepository.findAll().stream().map(Zone::toString).collect(Collectors.toList());
         model.addAttribute("whitelist", objectMapper.writeValueAsString(allZones));
         return "study/settings/zones";
@@ -177,9 +177,9 @@ public class StudySettingController {
 
     @GetMapping("/study")
     public String studySettingForm(@CurrentAccount Account account, @PathVariable String path, Model model) {
-        Study study = studyService.getStudyToUpdate(account, path);
+        StudyHeader study = studyService.getStudyHeaderToUpdate(account, path, false);
         model.addAttribute(account);
-        model.addAttribute(study);
+        model.addAttribute("study", study);
         return "study/settings/study";
     }
 
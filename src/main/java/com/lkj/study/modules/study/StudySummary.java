@@ -0,0 +1,34 @@
+package com.lkj.study.modules.study;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 경로 확인, redirect, 헤더 표시 등 연관 데이터가 필요 없는 곳에서 사용하는 스터디 요약 정보
+ * 엔티티가 아니므로 영속성 컨텍스트에 올라가지 않고 캐시에 그대로 보관 가능
+ */
+@Getter
+@RequiredArgsConstructor
+public class StudySummary {
+
+    private final Long id;
+
+    private final String path;
+
+    private final String title;
+
+    private final String shortDescription;
+
+    private final boolean published;
+
+    private final boolean closed;
+
+    private final boolean recruiting;
+
+    public String getEncodedPath() {
+        return URLEncoder.encode(this.path, StandardCharsets.UTF_8);
+    }
+}
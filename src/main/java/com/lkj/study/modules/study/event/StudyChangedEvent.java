@@ -0,0 +1,16 @@
+package com.lkj.study.modules.study.event;
+
+import com.lkj.study.modules.study.Study;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 알림 대상이 아닌 스터디 변경(태그, 지역, 제목, 경로, 삭제 등)을 알리는 내부 이벤트
+ * 검색 색인처럼 스터디 정보를 따로 들고 있는 곳에서 갱신 시점을 잡기 위해 사용
+ */
+@Getter
+@RequiredArgsConstructor
+public class StudyChangedEvent {
+
+    private final Study study;
+}
@@ -4,11 +4,11 @@ import com.lkj.study.infra.config.AppProperties;
 import com.lkj.study.infra.mail.EmailMessage;
 import com.lkj.study.infra.mail.EmailService;
 import com.lkj.study.modules.account.Account;
-import com.lkj.study.modules.account.AccountPredicates;
+import com.lkj.study.modules.account.AccountRecipient;
 import com.lkj.study.modules.account.AccountRepository;
 import com.lkj.study.modules.notification.Notification;
-import com.lkj.study.modules.notification.NotificationRepository;
 import com.lkj.study.modules.notification.NotificationType;
+import com.lkj.study.modules.notification.NotificationWriter;
 import com.lkj.study.modules.study.Study;
 import com.lkj.study.modules.study.StudyRepository;
 import lombok.RequiredArgsConstructor;
@@ -16,12 +16,17 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.context.Context;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 @Slf4j
@@ -31,27 +36,53 @@ import java.util.Set;
 @RequiredArgsConstructor
 public class StudyEventListener {
 
+    static final int CHUNK_SIZE = 1_000;
+
     private final StudyRepository studyRepository;
     private final AccountRepository accountRepository;
     private final EmailService emailService;
     private final TemplateEngine templateEngine;
     private final AppProperties appProperties;
-    private final NotificationRepository notificationRepository;
+    private final NotificationWriter notificationWriter;
+    private final PlatformTransactionManager transactionManager;
 
+    /**
+     * 조건에 맞는 계정이 아주 많을 수 있으므로 계정 엔티티를 한 번에 읽지 않음
+     * 알림 설정까지 SQL 조건으로 거른 계정을 id 순으로 CHUNK_SIZE 개씩 필요한 컬럼만 읽고,
+     * chunk 마다 별도 transaction 에서 알림을 저장/commit 해서 영속성 컨텍스트와 알림 목록이 chunk 크기 이상 커지지 않음
+     */
     @EventListener
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void handleStudyCreatedEvent(StudyCreatedEvent studyCreatedEvent) {
         Study study = studyRepository.findStudyWithTagsAndZonesById(studyCreatedEvent.getStudy().getId());
-        Iterable<Account> accounts = accountRepository.findAll(AccountPredicates.findByTagsAndZones(study.getTags(), study.getZones()));
-        accounts.forEach(account -> {
-            if (account.isStudyCreatedByEmail()) {
-                sendStudyCreatedEmail(study, account, "새로운 스터디가 생겼습니다",
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Long lastId = 0L;
+        while (lastId != null) {
+            Long after = lastId;
+            lastId = transactionTemplate.execute(status -> notifyStudyCreated(study, after));
+        }
+    }
+
+    /**
+     * 다음 chunk 를 처리하고 마지막 계정 id 를 반환, 더 읽을 계정이 없으면 null
+     */
+    private Long notifyStudyCreated(Study study, Long lastId) {
+        List<AccountRecipient> recipients = accountRepository.findStudyCreatedRecipients(
+                study.getTags(), study.getZones(), lastId, CHUNK_SIZE);
+        List<Notification> notifications = new ArrayList<>();
+        for (AccountRecipient recipient : recipients) {
+            if (recipient.isByEmail()) {
+                sendStudyCreatedEmail(study, recipient.getNickname(), recipient.getEmail(), "새로운 스터디가 생겼습니다",
                         "스터디올래, '" + study.getTitle() + "' 스터디가 생겼습니다.");
             }
 
-            if (account.isStudyCreatedByWeb()) {
-                createNotification(study, account, study.getShortDescription(), NotificationType.STUDY_CREATED);
+            if (recipient.isByWeb()) {
+                notifications.add(createNotification(study, accountRepository.getOne(recipient.getId()),
+                        study.getShortDescription(), NotificationType.STUDY_CREATED));
             }
-        });
+        }
+        notificationWriter.write(notifications);
+        return recipients.size() < CHUNK_SIZE ? null : recipients.get(recipients.size() - 1).getId();
     }
 
     @EventListener
@@ -61,19 +92,21 @@ public class StudyEventListener {
         accounts.addAll(study.getManagers());
         accounts.addAll(study.getMembers());
 
+        List<Notification> notifications = new ArrayList<>();
         accounts.forEach(account -> {
             if (account.isStudyUpdatedByEmail()) {
-                sendStudyCreatedEmail(study, account, studyUpdateEvent.getMessage(),
+                sendStudyCreatedEmail(study, account.getNickname(), account.getEmail(), studyUpdateEvent.getMessage(),
                         "스터디올래, '" + study.getTitle() + "' 스터디에 새소식이 있습니다.");
             }
 
             if (account.isStudyUpdatedByWeb()) {
-                createNotification(study, account, studyUpdateEvent.getMessage(), NotificationType.STUDY_UPDATED);
+                notifications.add(createNotification(study, account, studyUpdateEvent.getMessage(), NotificationType.STUDY_UPDATED));
             }
         });
+        notificationWriter.write(notifications);
     }
 
-    private void createNotification(Study study, Account account, String message, NotificationType notificationType) {
+    private Notification createNotification(Study study, Account account, String message, NotificationType notificationType) {
         Notification notification = new Notification();
         notification.setTitle(study.getTitle());
         notification.setLink("/study/" + study.getEncodedPath());
@@ -82,12 +115,12 @@ public class StudyEventListener {
         notification.setMessage(message);
         notification.setAccount(account);
         notification.setNotificationType(notificationType);
-        notificationRepository.save(notification);
+        return notification;
     }
 
-    private void sendStudyCreatedEmail(Study study, Account account, String contextMessage, String emailSubject) {
+    private void sendStudyCreatedEmail(Study study, String nickname, String email, String contextMessage, String emailSubject) {
         Context context = new Context();
-        context.setVariable("nickname", account.getNickname());
+        context.setVariable("nickname", nickname);
         context.setVariable("link", "/study/" + study.getEncodedPath());
         context.setVariable("linkName", study.getTitle());
         context.setVariable("message", contextMessage);
@@ -96,7 +129,7 @@ public class StudyEventListener {
 
         EmailMessage emailMessage = EmailMessage.builder()
                 .subject(emailSubject)
-                .to(account.getEmail())
+                .to(email)
                 .message(message)
                 .build();
 
@@ -0,0 +1,17 @@
+package com.lkj.study.modules.study.event;
+
+import com.lkj.study.modules.study.Study;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 스터디 가입/탈퇴를 알리는 내부 이벤트
+ * 멤버 수만 바뀌므로 멤버 수를 들고 있는 곳(검색 색인, 최근 공개 스터디 목록)만 받음
+ * 경로, 태그, 지역은 그대로라 StudyChangedEvent 를 받는 경로 캐시, 추천 목록은 갱신할 필요 없음
+ */
+@Getter
+@RequiredArgsConstructor
+public class StudyMemberChangedEvent {
+
+    private final Study study;
+}
@@ -0,0 +1,69 @@
+package com.lkj.study.modules.study.search;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 한글은 띄어쓰기/조사 때문에 단어 단위로 자르면 부분 검색이 안 되므로 bigram + trigram 으로 나누고,
+ * 영문/숫자는 공백과 기호 기준 token 으로 나눔
+ * ex) "스프링 JPA스터디" -> [스프, 프링, 스프링, jpa, 스터, 터디, 스터디]
+ */
+@Component
+public class KoreanNGramAnalyzer implements StudyAnalyzer {
+
+    @Override
+    public List<String> analyze(String text) {
+        if (text == null || text.isBlank()) {
+            return Collections.emptyList();
+        }
+
+        String lowerCase = text.toLowerCase(Locale.ROOT);
+        List<String> terms = new ArrayList<>();
+        StringBuilder run = new StringBuilder();
+        boolean hangulRun = false;
+        for (int i = 0; i < lowerCase.length(); i++) {
+            char c = lowerCase.charAt(i);
+            if (!Character.isLetterOrDigit(c)) {
+                flush(run, hangulRun, terms);
+                continue;
+            }
+
+            boolean hangul = isHangul(c);
+            if (run.length() > 0 && hangul != hangulRun) {
+                flush(run, hangulRun, terms);
+            }
+            hangulRun = hangul;
+            run.append(c);
+        }
+        flush(run, hangulRun, terms);
+        return terms;
+    }
+
+    private void flush(StringBuilder run, boolean hangulRun, List<String> terms) {
+        if (run.length() == 0) {
+            return;
+        }
+
+        if (hangulRun && run.length() > 1) {
+            addNGrams(run, 2, terms);
+            addNGrams(run, 3, terms);
+        } else {
+            terms.add(run.toString());
+        }
+        run.setLength(0);
+    }
+
+    private void addNGrams(StringBuilder run, int n, List<String> terms) {
+        for (int i = 0; i + n <= run.length(); i++) {
+            terms.add(run.substring(i, i + n));
+        }
+    }
+
+    private boolean isHangul(char c) {
+        return Character.UnicodeScript.of(c) == Character.UnicodeScript.HANGUL;
+    }
+}
@@ -0,0 +1,63 @@
+package com.lkj.study.modules.study.search;
+
+import java.util.Arrays;
+
+/**
+ * 하나의 term 에 대한 posting list
+ * 스터디 수가 많아도 색인 크기가 작도록 객체 대신 문서 번호와 term frequency 를 int 배열로 보관
+ * 문서 번호 순으로 정렬해서 보관, 보통은 새 번호라 append 이고 삭제된 번호를 다시 쓰는 경우에만 중간에 삽입
+ */
+class PostingList {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private int[] docs = new int[INITIAL_CAPACITY];
+
+    private int[] freqs = new int[INITIAL_CAPACITY];
+
+    private int size;
+
+    void add(int doc, int freq) {
+        if (size == docs.length) {
+            int capacity = Math.max(INITIAL_CAPACITY, docs.length + (docs.length >> 1));
+            docs = Arrays.copyOf(docs, capacity);
+            freqs = Arrays.copyOf(freqs, capacity);
+        }
+        int index = size == 0 || docs[size - 1] < doc ? size : -Arrays.binarySearch(docs, 0, size, doc) - 1;
+        int moved = size - index;
+        System.arraycopy(docs, index, docs, index + 1, moved);
+        System.arraycopy(freqs, index, freqs, index + 1, moved);
+        docs[index] = doc;
+        freqs[index] = freq;
+        size++;
+    }
+
+    void remove(int doc) {
+        int index = Arrays.binarySearch(docs, 0, size, doc);
+        if (index < 0) {
+            return;
+        }
+
+        int moved = size - index - 1;
+        System.arraycopy(docs, index + 1, docs, index, moved);
+        System.arraycopy(freqs, index + 1, freqs, index, moved);
+        size--;
+    }
+
+    void trimToSize() {
+        docs = Arrays.copyOf(docs, size);
+        freqs = Arrays.copyOf(freqs, size);
+    }
+
+    int size() {
+        return size;
+    }
+
+    int doc(int index) {
+        return docs[index];
+    }
+
+    int freq(int index) {
+        return freqs[index];
+    }
+}
@@ -0,0 +1,11 @@
+package com.lkj.study.modules.study.search;
+
+import java.util.List;
+
+/**
+ * 색인할 문서와 검색어를 같은 규칙으로 term 목록으로 나누는 analyzer
+ */
+public interface StudyAnalyzer {
+
+    List<String> analyze(String text);
+}
@@ -0,0 +1,26 @@
+package com.lkj.study.modules.study.search;
+
+import com.lkj.study.modules.study.Study;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * keyset 페이징 결과
+ * totalElements 는 요청한 경우에만 count 쿼리로 채우고, 아니면 null
+ */
+@Getter
+@RequiredArgsConstructor
+public class StudyScroll {
+
+    private final List<Study> content;
+
+    private final String nextCursor;
+
+    private final Long totalElements;
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,108 @@
+package com.lkj.study.modules.study.search;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 검색 결과 keyset(seek) 페이징용 cursor
+ * 마지막으로 본 스터디의 (정렬 값, id) 를 기억하고 다음 페이지는 그 뒤부터 조회 -> 몇 번째 페이지든 비용이 같음
+ * 클라이언트에는 "정렬기준|정렬 값|id" 를 base64 로 감싼 token 으로 전달
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class StudySearchCursor {
+
+    public static final String PUBLISHED_DATE_TIME = "publishedDateTime";
+
+    public static final String MEMBER_COUNT = "memberCount";
+
+    private static final String DELIMITER = "|";
+
+    private final String sortProperty;
+
+    private final String value;
+
+    private final Long id;
+
+    public static StudySearchCursor first(String sortProperty) {
+        return new StudySearchCursor(checkSortProperty(sortProperty), null, null);
+    }
+
+    /**
+     * 색인의 정렬 값으로 만들어야 다음 페이지를 찾을 때 같은 값으로 비교함
+     */
+    public static StudySearchCursor after(StudySearchHit hit, String sortProperty) {
+        String value = MEMBER_COUNT.equals(sortProperty)
+                ? String.valueOf(hit.getMemberCount())
+                : String.valueOf(hit.getPublishedDateTime());
+        return new StudySearchCursor(checkSortProperty(sortProperty), value, hit.getStudyId());
+    }
+
+    public static StudySearchCursor decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] split = decoded.split("\\|");
+            StudySearchCursor cursor = new StudySearchCursor(checkSortProperty(split[0]), split[1], Long.valueOf(split[2]));
+            cursor.validate();
+            return cursor;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 검색 cursor 입니다.", e);
+        }
+    }
+
+    public String encode() {
+        String raw = String.join(DELIMITER, sortProperty, value, String.valueOf(id));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean isFirst() {
+        return id == null;
+    }
+
+    /**
+     * (정렬 값, id) 내림차순으로 cursor 다음에 오는 결과인지
+     */
+    public boolean isBefore(StudySearchHit hit) {
+        int compare;
+        if (isMemberCountOrder()) {
+            compare = Integer.compare(hit.getMemberCount(), getMemberCount());
+        } else if (hit.getPublishedDateTime() == null) {
+            compare = -1;
+        } else {
+            compare = hit.getPublishedDateTime().compareTo(getPublishedDateTime());
+        }
+        return compare < 0 || (compare == 0 && hit.getStudyId() < id);
+    }
+
+    public boolean isMemberCountOrder() {
+        return MEMBER_COUNT.equals(sortProperty);
+    }
+
+    public int getMemberCount() {
+        return Integer.parseInt(value);
+    }
+
+    public LocalDateTime getPublishedDateTime() {
+        return LocalDateTime.parse(value);
+    }
+
+    private void validate() {
+        if (isMemberCountOrder()) {
+            getMemberCount();
+        } else {
+            getPublishedDateTime();
+        }
+    }
+
+    private static String checkSortProperty(String sortProperty) {
+        if (!PUBLISHED_DATE_TIME.equals(sortProperty) && !MEMBER_COUNT.equals(sortProperty)) {
+            throw new IllegalArgumentException(sortProperty + "는 지원하지 않는 정렬 기준입니다.");
+        }
+        return sortProperty;
+    }
+}
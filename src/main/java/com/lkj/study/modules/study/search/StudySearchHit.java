@@ -0,0 +1,23 @@
+package com.lkj.study.modules.study.search;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 결과 한 건, 정렬/페이징을 DB 대신 색인에서 할 수 있도록 정렬 값도 함께 보관
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class StudySearchHit {
+
+    private final Long studyId;
+
+    private final double score;
+
+    private final LocalDateTime publishedDateTime;
+
+    private final int memberCount;
+}
@@ -0,0 +1,306 @@
+package com.lkj.study.modules.study.search;
+
+import com.lkj.study.modules.study.Study;
+import com.lkj.study.modules.tag.Tag;
+import com.lkj.study.modules.zone.Zone;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 공개된 스터디의 제목, 짧은 소개, 태그, 지역 이름으로 만든 메모리 역색인
+ * term -> posting list(문서 번호, term frequency) 로 관리하고, 재색인/삭제를 위해 문서별 term 목록도 함께 유지
+ * 검색어의 각 term 은 색인된 term 의 prefix 로 매칭하기 때문에 정렬된 map 을 사용
+ * 검색 결과를 DB 에서 다시 정렬/페이징하지 않도록 문서마다 정렬 값(공개 일시, 멤버 수)도 보관
+ * 문서별 값은 문서 번호를 index 로 하는 배열에 보관하고, 삭제/재색인으로 빈 번호는 다음 색인에서 다시 사용
+ * -> 스터디를 계속 수정해도 문서 번호와 배열 크기는 색인된 스터디 수를 넘지 않음
+ *
+ * 관련도 점수는 BM25
+ * score(d) = Σ idf(t) * tf * (k1 + 1) / (tf + k1 * (1 - b + b * |d| / avgdl))
+ * 검색어의 term 하나가 prefix 로 여러 색인 term 에 매칭되면(spring -> spring, springboot, n-gram 등) 그 중 가장 높은 점수만 사용
+ * -> 비슷한 term 이 많은 문서가 같은 검색어로 점수를 여러 번 받지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class StudySearchIndex {
+
+    private static final double K1 = 1.2;
+
+    private static final double B = 0.75;
+
+    private static final int TITLE_WEIGHT = 2;
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final StudyAnalyzer studyAnalyzer;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final TreeMap<String, PostingList> postings = new TreeMap<>();
+
+    private final Map<Long, Integer> docByStudyId = new HashMap<>();
+
+    private long[] studyIds = new long[INITIAL_CAPACITY];
+
+    private int[] lengths = new int[INITIAL_CAPACITY];
+
+    private String[][] termsByDoc = new String[INITIAL_CAPACITY][];
+
+    private LocalDateTime[] publishedDateTimes = new LocalDateTime[INITIAL_CAPACITY];
+
+    private int[] memberCounts = new int[INITIAL_CAPACITY];
+
+    /**
+     * 삭제된 문서 번호(stack)
+     */
+    private int[] freeDocs = new int[INITIAL_CAPACITY];
+
+    private int freeCount;
+
+    /**
+     * 한 번이라도 사용한 문서 번호 수, 이 중 freeCount 만큼은 비어 있음
+     */
+    private int nextDoc;
+
+    private long totalLength;
+
+    public void index(Study study) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(study.getId());
+            if (!study.isPublished()) {
+                return;
+            }
+
+            Map<String, Integer> termFreqs = new HashMap<>();
+            addTerms(termFreqs, study.getTitle(), TITLE_WEIGHT);
+            addTerms(termFreqs, study.getShortDescription(), 1);
+            for (Tag tag : study.getTags()) {
+                addTerms(termFreqs, tag.getTitle(), 1);
+            }
+            for (Zone zone : study.getZones()) {
+                addTerms(termFreqs, zone.getLocalNameOfCity(), 1);
+                addTerms(termFreqs, zone.getCity(), 1);
+            }
+
+            int doc = allocateDoc();
+            int length = 0;
+            for (Map.Entry<String, Integer> entry : termFreqs.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), t -> new PostingList()).add(doc, entry.getValue());
+                length += entry.getValue();
+            }
+
+            docByStudyId.put(study.getId(), doc);
+            studyIds[doc] = study.getId();
+            lengths[doc] = length;
+            termsByDoc[doc] = termFreqs.keySet().toArray(new String[0]);
+            publishedDateTimes[doc] = study.getPublishedDateTime();
+            memberCounts[doc] = study.getMemberCount();
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long studyId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(studyId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            docByStudyId.clear();
+            studyIds = new long[INITIAL_CAPACITY];
+            lengths = new int[INITIAL_CAPACITY];
+            termsByDoc = new String[INITIAL_CAPACITY][];
+            publishedDateTimes = new LocalDateTime[INITIAL_CAPACITY];
+            memberCounts = new int[INITIAL_CAPACITY];
+            freeDocs = new int[INITIAL_CAPACITY];
+            freeCount = 0;
+            nextDoc = 0;
+            totalLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 색인 후 posting list 와 문서 배열의 여유 공간 정리
+     */
+    public void compact() {
+        lock.writeLock().lock();
+        try {
+            postings.values().forEach(PostingList::trimToSize);
+            resizeDocs(Math.max(nextDoc, INITIAL_CAPACITY));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * keyword 의 모든 term 을 포함하는(AND) 스터디 id 목록
+     */
+    public Set<Long> search(String keyword) {
+        return score(keyword).keySet();
+    }
+
+    /**
+     * keyword 의 모든 term 을 포함하는(AND) 스터디 id 를 BM25 점수 내림차순으로 정렬
+     */
+    public List<Long> searchByRelevance(String keyword) {
+        return score(keyword).entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed())
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * keyword 의 모든 term 을 포함하는(AND) 스터디와 관련도 점수, 정렬 값
+     */
+    public List<StudySearchHit> searchHits(String keyword) {
+        List<StudySearchHit> hits = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            scoreByDoc(keyword).forEach((doc, score) ->
+                    hits.add(new StudySearchHit(studyIds[doc], score, publishedDateTimes[doc], memberCounts[doc])));
+        } finally {
+            lock.readLock().unlock();
+        }
+        return hits;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docByStudyId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 사용한 문서 번호 수(빈 번호 포함)
+     */
+    int maxDoc() {
+        lock.readLock().lock();
+        try {
+            return nextDoc;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<Long, Double> score(String keyword) {
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> result = new HashMap<>();
+            scoreByDoc(keyword).forEach((doc, score) -> result.put(studyIds[doc], score));
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * read lock 을 잡은 상태에서 호출
+     */
+    private Map<Integer, Double> scoreByDoc(String keyword) {
+        Set<String> queryTerms = new LinkedHashSet<>(studyAnalyzer.analyze(keyword));
+        if (queryTerms.isEmpty() || docByStudyId.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        double averageLength = (double) totalLength / docByStudyId.size();
+        Map<Integer, Double> scores = null;
+        for (String queryTerm : queryTerms) {
+            Map<Integer, Double> termScores = new HashMap<>();
+            for (PostingList postingList : postings.subMap(queryTerm, true, queryTerm + Character.MAX_VALUE, true).values()) {
+                double idf = idf(postingList.size());
+                for (int i = 0; i < postingList.size(); i++) {
+                    int doc = postingList.doc(i);
+                    double score = bm25(idf, postingList.freq(i), lengths[doc], averageLength);
+                    termScores.merge(doc, score, Math::max);
+                }
+            }
+
+            if (scores == null) {
+                scores = termScores;
+            } else {
+                scores.keySet().retainAll(termScores.keySet());
+                scores.replaceAll((doc, score) -> score + termScores.get(doc));
+            }
+
+            if (scores.isEmpty()) {
+                return Collections.emptyMap();
+            }
+        }
+        return scores;
+    }
+
+    private double idf(int documentFrequency) {
+        return Math.log(1 + (docByStudyId.size() - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+
+    private double bm25(double idf, int termFrequency, int length, double averageLength) {
+        return idf * termFrequency * (K1 + 1) / (termFrequency + K1 * (1 - B + B * length / averageLength));
+    }
+
+    private void addTerms(Map<String, Integer> termFreqs, String text, int weight) {
+        studyAnalyzer.analyze(text).forEach(term -> termFreqs.merge(term, weight, Integer::sum));
+    }
+
+    private void removeDocument(Long studyId) {
+        Integer doc = docByStudyId.remove(studyId);
+        if (doc == null) {
+            return;
+        }
+
+        for (String term : termsByDoc[doc]) {
+            PostingList postingList = postings.get(term);
+            postingList.remove(doc);
+            if (postingList.size() == 0) {
+                postings.remove(term);
+            }
+        }
+        totalLength -= lengths[doc];
+        termsByDoc[doc] = null;
+        publishedDateTimes[doc] = null;
+        freeDoc(doc);
+    }
+
+    private int allocateDoc() {
+        if (freeCount > 0) {
+            return freeDocs[--freeCount];
+        }
+        if (nextDoc == studyIds.length) {
+            resizeDocs(studyIds.length + (studyIds.length >> 1));
+        }
+        return nextDoc++;
+    }
+
+    private void freeDoc(int doc) {
+        if (freeCount == freeDocs.length) {
+            freeDocs = Arrays.copyOf(freeDocs, Math.max(INITIAL_CAPACITY, freeDocs.length + (freeDocs.length >> 1)));
+        }
+        freeDocs[freeCount++] = doc;
+    }
+
+    private void resizeDocs(int capacity) {
+        studyIds = Arrays.copyOf(studyIds, capacity);
+        lengths = Arrays.copyOf(lengths, capacity);
+        termsByDoc = Arrays.copyOf(termsByDoc, capacity);
+        publishedDateTimes = Arrays.copyOf(publishedDateTimes, capacity);
+        memberCounts = Arrays.copyOf(memberCounts, capacity);
+    }
+}
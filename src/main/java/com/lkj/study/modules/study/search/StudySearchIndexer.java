@@ -0,0 +1,120 @@
+package com.lkj.study.modules.study.search;
+
+import com.lkj.study.modules.study.Study;
+import com.lkj.study.modules.study.StudyRepository;
+import com.lkj.study.modules.study.event.StudyChangedEvent;
+import com.lkj.study.modules.study.event.StudyCreatedEvent;
+import com.lkj.study.modules.study.event.StudyMemberChangedEvent;
+import com.lkj.study.modules.study.event.StudyUpdateEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 애플리케이션 시작 시 공개된 스터디로 색인을 만들고, 이후에는 스터디 변경 이벤트로 해당 스터디만 다시 색인
+ * 변경 내용이 DB 에 반영된 뒤(AFTER_COMMIT) 스터디를 다시 읽어서 색인하기 때문에 rollback 된 변경은 색인되지 않음
+ *
+ * 재색인은 공용 @Async executor(queue 50) 대신 전용 thread 하나에서 처리
+ * - 변경이 몰려도 버려지지 않도록 대기 중인 스터디 id 를 set 으로 모아서 같은 스터디의 변경은 한 번만 재색인
+ *   (대기 작업 수는 변경된 스터디 수를 넘지 않음)
+ * - 재색인을 시작할 때 대기 목록에서 빼므로 재색인 중에 들어온 변경은 다시 대기 목록에 들어감
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudySearchIndexer implements DisposableBean {
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final StudyRepository studyRepository;
+    private final StudySearchIndex studySearchIndex;
+
+    private final Set<Long> pendingStudyIds = ConcurrentHashMap.newKeySet();
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "StudySearchIndexer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        studySearchIndex.clear();
+        Long lastId = 0L;
+        List<Long> ids;
+        do {
+            ids = studyRepository.findPublishedStudyIds(lastId, REBUILD_BATCH_SIZE);
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            studyRepository.findStudyWithTagsAndZonesByIdIn(ids).forEach(studySearchIndex::index);
+            lastId = ids.get(ids.size() - 1);
+        } while (ids.size() == REBUILD_BATCH_SIZE);
+        studySearchIndex.compact();
+
+        log.info("study search index built, {} studies", studySearchIndex.size());
+    }
+
+    @TransactionalEventListener
+    public void handleStudyCreatedEvent(StudyCreatedEvent studyCreatedEvent) {
+        enqueue(studyCreatedEvent.getStudy().getId());
+    }
+
+    @TransactionalEventListener
+    public void handleStudyUpdateEvent(StudyUpdateEvent studyUpdateEvent) {
+        enqueue(studyUpdateEvent.getStudy().getId());
+    }
+
+    @TransactionalEventListener
+    public void handleStudyChangedEvent(StudyChangedEvent studyChangedEvent) {
+        enqueue(studyChangedEvent.getStudy().getId());
+    }
+
+    /**
+     * 멤버 수 순 정렬에 사용하는 memberCount 갱신
+     */
+    @TransactionalEventListener
+    public void handleStudyMemberChangedEvent(StudyMemberChangedEvent studyMemberChangedEvent) {
+        enqueue(studyMemberChangedEvent.getStudy().getId());
+    }
+
+    void enqueue(Long studyId) {
+        if (!pendingStudyIds.add(studyId)) {
+            return;
+        }
+
+        executor.execute(() -> {
+            pendingStudyIds.remove(studyId);
+            try {
+                reindex(studyId);
+            } catch (RuntimeException e) {
+                log.error("study {} reindex failed", studyId, e);
+            }
+        });
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private void reindex(Long studyId) {
+        Study study = studyRepository.findStudyWithTagsAndZonesById(studyId);
+        if (study == null) {
+            studySearchIndex.remove(studyId);
+        } else {
+            studySearchIndex.index(study);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.lkj.study.infra.blob;
+
+import com.lkj.study.infra.config.AppProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BlobStoreTest {
+
+    /**
+     * 1x1 PNG
+     */
+    static final String PNG_BASE64 = "iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAYAAAAfFcSJAAAADUlEQVR42mNkYPhfDwAChwGA60e6kgAAAABJRU5ErkJggg==";
+
+    static final byte[] PNG = Base64.getDecoder().decode(PNG_BASE64);
+
+    @TempDir
+    Path directory;
+
+    BlobStore blobStore;
+
+    @BeforeEach
+    void beforeEach() {
+        AppProperties appProperties = new AppProperties();
+        appProperties.setBlobDirectory(directory.toString());
+        blobStore = new BlobStore(appProperties);
+    }
+
+    @Test
+    @DisplayName("저장한 이미지를 hash 로 찾음 - 내용, 형식, 크기")
+    void save_and_find() throws IOException {
+        String hash = blobStore.saveImage(PNG);
+
+        Blob blob = blobStore.find(hash).orElseThrow();
+        assertEquals(hash, blob.getHash());
+        assertEquals(MediaType.IMAGE_PNG, blob.getContentType());
+        assertEquals(PNG.length, blob.getLength());
+        assertArrayEquals(PNG, Files.readAllBytes(blob.getPath()));
+        assertEquals(directory.resolve(hash.substring(0, 2)).resolve(hash), blob.getPath());
+    }
+
+    @Test
+    @DisplayName("같은 내용은 같은 hash 로 한 번만 저장, data URL 로 저장해도 같음")
+    void save_same_content_once() throws IOException {
+        String hash = blobStore.saveImage(PNG);
+
+        assertEquals(hash, blobStore.saveImage(PNG.clone()));
+        assertEquals(hash, blobStore.saveImageDataUrl("data:image/png;base64," + PNG_BASE64));
+        try (Stream<Path> files = Files.walk(directory)) {
+            assertEquals(1, files.filter(Files::isRegularFile).count());
+        }
+
+        byte[] other = PNG.clone();
+        other[other.length - 1]++;
+        assertNotEquals(hash, blobStore.saveImage(other));
+    }
+
+    @Test
+    @DisplayName("이미지가 아닌 내용, data URL 이 아닌 값은 저장하지 않음")
+    void save_not_image() throws IOException {
+        assertThrows(IllegalArgumentException.class, () -> blobStore.saveImage("<script>".getBytes()));
+        assertThrows(IllegalArgumentException.class, () -> blobStore.saveImageDataUrl("/profile-images/abc"));
+        assertThrows(IllegalArgumentException.class, () -> blobStore.saveImageDataUrl(
+                "data:image/png;base64," + Base64.getEncoder().encodeToString("<script>".getBytes())));
+        try (Stream<Path> files = Files.walk(directory)) {
+            assertEquals(0, files.filter(Files::isRegularFile).count());
+        }
+    }
+
+    @Test
+    @DisplayName("hash 형식이 아니거나 없는 hash 는 찾지 못함")
+    void find_not_found() {
+        assertTrue(blobStore.find(null).isEmpty());
+        assertTrue(blobStore.find("../../etc/passwd").isEmpty());
+        assertTrue(blobStore.find("0".repeat(64)).isEmpty());
+    }
+}
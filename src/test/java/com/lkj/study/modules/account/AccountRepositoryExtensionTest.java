@@ -0,0 +1,65 @@
+package com.lkj.study.modules.account;
+
+import com.lkj.study.infra.ContainerBaseTest;
+import com.lkj.study.infra.MockMvcTest;
+import com.lkj.study.modules.tag.Tag;
+import com.lkj.study.modules.tag.TagRepository;
+import com.lkj.study.modules.zone.Zone;
+import com.lkj.study.modules.zone.ZoneRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@MockMvcTest
+class AccountRepositoryExtensionTest extends ContainerBaseTest {
+
+    @Autowired AccountRepository accountRepository;
+    @Autowired AccountFactory accountFactory;
+    @Autowired TagRepository tagRepository;
+    @Autowired ZoneRepository zoneRepository;
+
+    @Test
+    @DisplayName("스터디 생성 알림 대상 - 알림 설정까지 SQL 로 거르고 id 순으로 chunk 단위 조회")
+    void findStudyCreatedRecipients() {
+        Tag tag = tagRepository.save(Tag.builder().title("audience").build());
+        Zone zone = zoneRepository.save(Zone.builder().city("test").localNameOfCity("테스트시").province("테스트주").build());
+
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            expected.add(createAccount("web" + i, tag, zone, false, true).getId());
+        }
+        expected.add(createAccount("email", tag, zone, true, false).getId());
+        createAccount("none", tag, zone, false, false);
+        createAccount("no-zone", tag, null, true, true);
+
+        List<Long> found = new ArrayList<>();
+        Long lastId = 0L;
+        List<AccountRecipient> chunk;
+        do {
+            chunk = accountRepository.findStudyCreatedRecipients(Set.of(tag), Set.of(zone), lastId, 2);
+            assertTrue(chunk.size() <= 2);
+            found.addAll(chunk.stream().map(AccountRecipient::getId).collect(Collectors.toList()));
+            lastId = chunk.isEmpty() ? lastId : chunk.get(chunk.size() - 1).getId();
+        } while (chunk.size() == 2);
+
+        assertEquals(expected, found);
+    }
+
+    private Account createAccount(String nickname, Tag tag, Zone zone, boolean byEmail, boolean byWeb) {
+        Account account = accountFactory.createAccount(nickname);
+        account.setStudyCreatedByEmail(byEmail);
+        account.setStudyCreatedByWeb(byWeb);
+        account.getTags().add(tag);
+        if (zone != null) {
+            account.getZones().add(zone);
+        }
+        return account;
+    }
+}
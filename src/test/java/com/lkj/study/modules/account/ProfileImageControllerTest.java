@@ -0,0 +1,57 @@
+package com.lkj.study.modules.account;
+
+import com.lkj.study.infra.ContainerBaseTest;
+import com.lkj.study.infra.MockMvcTest;
+import com.lkj.study.infra.blob.BlobStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Base64;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@MockMvcTest
+class ProfileImageControllerTest extends ContainerBaseTest {
+
+    static final byte[] PNG = Base64.getDecoder().decode(
+            "iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAYAAAAfFcSJAAAADUlEQVR42mNkYPhfDwAChwGA60e6kgAAAABJRU5ErkJggg==");
+
+    @Autowired MockMvc mockMvc;
+    @Autowired BlobStore blobStore;
+
+    @Test
+    @DisplayName("프로필 이미지 - hash 를 ETag 로 1년간 캐시")
+    void profileImage() throws Exception {
+        String hash = blobStore.saveImage(PNG);
+
+        mockMvc.perform(get("/profile-images/" + hash))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.IMAGE_PNG))
+                .andExpect(content().bytes(PNG))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + hash + "\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "public, max-age=31536000, immutable"));
+    }
+
+    @Test
+    @DisplayName("프로필 이미지 - If-None-Match 가 ETag 와 같으면 본문 없이 304")
+    void profileImage_not_modified() throws Exception {
+        String hash = blobStore.saveImage(PNG);
+
+        mockMvc.perform(get("/profile-images/" + hash)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"" + hash + "\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    @DisplayName("프로필 이미지 - 없는 hash 는 404")
+    void profileImage_not_found() throws Exception {
+        mockMvc.perform(get("/profile-images/" + "0".repeat(64)))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -3,6 +3,7 @@ package com.lkj.study.modules.account;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.lkj.study.infra.ContainerBaseTest;
 import com.lkj.study.infra.MockMvcTest;
+import com.lkj.study.infra.blob.BlobStore;
 import com.lkj.study.modules.tag.Tag;
 import com.lkj.study.modules.zone.Zone;
 import com.lkj.study.modules.tag.TagForm;
@@ -49,6 +50,9 @@ class SettingsControllerTest extends ContainerBaseTest {
     @Autowired
     ZoneRepository zoneRepository;
 
+    @Autowired
+    BlobStore blobStore;
+
     private Zone testZone = Zone.builder().city("test").localNameOfCity("테스트시").province("테스트주").build();
 
     @BeforeEach
@@ -128,6 +132,37 @@ class SettingsControllerTest extends ContainerBaseTest {
         assertEquals(bio, account.getBio());
     }
 
+    @WithAccount("bramhome5848")
+    @DisplayName("프로필 수정 하기 - 새로 자른 이미지는 저장소에 저장하고 hash 주소로 표시, 빈 값이면 이미지 삭제")
+    @Test
+    void updateProfile_image() throws Exception {
+        String png = "iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAYAAAAfFcSJAAAADUlEQVR42mNkYPhfDwAChwGA60e6kgAAAABJRU5ErkJggg==";
+        mockMvc.perform(post(ROOT + SETTINGS + PROFILE)
+                .param("profileImage", "data:image/png;base64," + png)
+                .with(csrf()))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl(ROOT + SETTINGS + PROFILE));
+
+        Account account = accountRepository.findByNickname("bramhome5848");
+        String hash = account.getProfileImageHash();
+        assertNotNull(hash);
+        assertEquals("/profile-images/" + hash, account.getProfileImage());
+        assertTrue(blobStore.find(hash).isPresent());
+
+        // 이미지를 바꾸지 않으면 폼에는 현재 이미지 주소가 그대로 넘어옴
+        mockMvc.perform(post(ROOT + SETTINGS + PROFILE)
+                .param("profileImage", account.getProfileImage())
+                .with(csrf()))
+                .andExpect(status().is3xxRedirection());
+        assertEquals(hash, accountRepository.findByNickname("bramhome5848").getProfileImageHash());
+
+        mockMvc.perform(post(ROOT + SETTINGS + PROFILE)
+                .param("profileImage", "")
+                .with(csrf()))
+                .andExpect(status().is3xxRedirection());
+        assertNull(accountRepository.findByNickname("bramhome5848").getProfileImageHash());
+    }
+
     @WithAccount("bramhome5848")
     @DisplayName("프로필 수정 하기 - 입력값 에러")
     @Test
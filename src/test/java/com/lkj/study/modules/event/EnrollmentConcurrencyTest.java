@@ -0,0 +1,222 @@
+package com.lkj.study.modules.event;
+
+import com.lkj.study.infra.ContainerBaseTest;
+import com.lkj.study.modules.account.Account;
+import com.lkj.study.modules.account.AccountRepository;
+import com.lkj.study.modules.study.Study;
+import com.lkj.study.modules.study.StudyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 선착순 모임에 동시에 참가 신청이 몰리는 경우 정원을 넘거나 같은 계정이 두 번 신청되지 않는지 확인
+ * 각 신청이 별도 transaction 으로 commit 되어야 하므로 @Transactional 테스트가 아님
+ * 계정 1,000 개와 동시 요청으로 오래 걸리므로 test 에서는 빠지고 stressTest 로 따로 실행
+ * 로그의 처리량(req/s)은 실행 환경(DB container, CPU 수)에 따라 크게 달라지므로 기준값으로 쓰지 않음
+ */
+@Slf4j
+@Tag("stress")
+@SpringBootTest
+@ActiveProfiles("test")
+class EnrollmentConcurrencyTest extends ContainerBaseTest {
+
+    static final int LIMIT = 100;
+    static final int ACCOUNTS = 1_000;
+    static final int DUPLICATES = 200;
+    static final int THREADS = 32;
+    static final int MAX_RETRY = 20;
+
+    @Autowired EventService eventService;
+    @Autowired EventRepository eventRepository;
+    @Autowired EnrollmentRepository enrollmentRepository;
+    @Autowired StudyRepository studyRepository;
+    @Autowired AccountRepository accountRepository;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void afterEach() {
+        enrollmentRepository.deleteAllInBatch();
+        eventRepository.deleteAllInBatch();
+        studyRepository.deleteAll();
+        accountRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("선착순 모임 동시 참가 신청 - 정원 초과, 중복 신청 없음")
+    void newEnrollment_concurrently() throws Exception {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Long eventId = transactionTemplate.execute(status -> createEvent().getId());
+        List<Long> accountIds = transactionTemplate.execute(status -> createAccounts());
+
+        // 앞쪽 계정들은 같은 신청을 한 번 더 보냄
+        List<Long> requests = new ArrayList<>(accountIds);
+        requests.addAll(accountIds.subList(0, DUPLICATES));
+
+        AtomicInteger duplicates = new AtomicInteger();
+        AtomicInteger retries = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = requests.stream()
+                .map(accountId -> executor.submit(() -> {
+                    start.await();
+                    enroll(transactionTemplate, eventId, accountId, duplicates, retries);
+                    return null;
+                }))
+                .collect(Collectors.toList());
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(2, TimeUnit.MINUTES);
+        }
+        long elapsed = System.nanoTime() - startedAt;
+        executor.shutdown();
+
+        log.info("{} enrollment requests with {} threads: {} ms, {} req/s, {} retries, {} duplicates",
+                requests.size(), THREADS, TimeUnit.NANOSECONDS.toMillis(elapsed),
+                String.format("%.1f", requests.size() / (elapsed / 1_000_000_000.0)), retries.get(), duplicates.get());
+
+        Event event = eventRepository.findById(eventId).orElseThrow();
+        List<Enrollment> enrollments = enrollmentRepository.findAll();
+        long accepted = enrollments.stream().filter(Enrollment::isAccepted).count();
+
+        assertEquals(ACCOUNTS, enrollments.size());
+        assertEquals(ACCOUNTS, enrollments.stream().map(e -> e.getAccount().getId()).distinct().count());
+        assertEquals(LIMIT, accepted);
+        assertEquals(LIMIT, event.getAcceptedCount());
+        assertEquals(ACCOUNTS - LIMIT, event.getWaitingCount());
+    }
+
+    @Test
+    @DisplayName("확정자와 대기자가 동시에 취소 - 대기자 확정과 lock 순서가 같아서 인원 수와 신청 row 가 일치")
+    void cancelEnrollment_concurrently() throws Exception {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Long eventId = transactionTemplate.execute(status -> createEvent().getId());
+        List<Long> accountIds = transactionTemplate.execute(status -> createAccounts());
+        AtomicInteger retries = new AtomicInteger();
+        for (Long accountId : accountIds.subList(0, LIMIT * 3)) {
+            enroll(transactionTemplate, eventId, accountId, new AtomicInteger(), retries);
+        }
+
+        // 확정자 일부와 대기자 일부가 동시에 취소 -> 확정자 취소마다 대기자가 확정되면서 취소하는 대기자와 겹침
+        List<Long> cancels = new ArrayList<>(accountIds.subList(0, LIMIT / 2));
+        cancels.addAll(accountIds.subList(LIMIT, LIMIT * 2));
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = cancels.stream()
+                .map(accountId -> executor.submit(() -> {
+                    start.await();
+                    cancel(transactionTemplate, eventId, accountId, retries);
+                    return null;
+                }))
+                .collect(Collectors.toList());
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(2, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+        log.info("{} concurrent cancellations, {} retries", cancels.size(), retries.get());
+
+        Event event = eventRepository.findById(eventId).orElseThrow();
+        List<Enrollment> enrollments = enrollmentRepository.findAll();
+        long accepted = enrollments.stream().filter(Enrollment::isAccepted).count();
+
+        assertEquals(LIMIT * 3 - cancels.size(), enrollments.size());
+        assertEquals(LIMIT, accepted);
+        assertEquals(LIMIT, event.getAcceptedCount());
+        assertEquals(enrollments.size() - LIMIT, event.getWaitingCount());
+    }
+
+    private void cancel(TransactionTemplate transactionTemplate, Long eventId, Long accountId, AtomicInteger retries) {
+        for (int i = 0; i < MAX_RETRY; i++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> eventService.cancelEnrollment(
+                        eventRepository.findById(eventId).orElseThrow(),
+                        accountRepository.findById(accountId).orElseThrow()));
+                return;
+            } catch (ConcurrencyFailureException e) {
+                retries.incrementAndGet();
+            }
+        }
+        fail("cancellation of account " + accountId + " did not finish");
+    }
+
+    /**
+     * DB lock 대기 시간 초과 등 동시성 예외는 다시 시도, 중복 신청은 unique 제약 위반으로 끝남
+     */
+    private void enroll(TransactionTemplate transactionTemplate, Long eventId, Long accountId,
+                        AtomicInteger duplicates, AtomicInteger retries) {
+        for (int i = 0; i < MAX_RETRY; i++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> eventService.newEnrollment(
+                        eventRepository.findById(eventId).orElseThrow(),
+                        accountRepository.findById(accountId).orElseThrow()));
+                return;
+            } catch (DuplicateEnrollmentException e) {
+                duplicates.incrementAndGet();
+                return;
+            } catch (ConcurrencyFailureException e) {
+                retries.incrementAndGet();
+            }
+        }
+        fail("enrollment of account " + accountId + " did not finish");
+    }
+
+    private Event createEvent() {
+        Account manager = new Account();
+        manager.setNickname("manager");
+        manager.setEmail("manager@email.com");
+        accountRepository.save(manager);
+
+        Study study = new Study();
+        study.setPath("concurrency-study");
+        study.setTitle("concurrency study");
+        studyRepository.save(study).addManager(manager);
+
+        Event event = new Event();
+        event.setStudy(study);
+        event.setCreatedBy(manager);
+        event.setTitle("first come first served");
+        event.setEventType(EventType.FCFS);
+        event.setLimitOfEnrollments(LIMIT);
+        event.setCreatedDateTime(LocalDateTime.now());
+        event.setEndEnrollmentDateTime(LocalDateTime.now().plusDays(1));
+        event.setStartDateTime(LocalDateTime.now().plusDays(1).plusHours(5));
+        event.setEndDateTime(LocalDateTime.now().plusDays(1).plusHours(7));
+        return eventRepository.save(event);
+    }
+
+    private List<Long> createAccounts() {
+        return IntStream.range(0, ACCOUNTS)
+                .mapToObj(i -> {
+                    Account account = new Account();
+                    account.setNickname("user" + i);
+                    account.setEmail("user" + i + "@email.com");
+                    return accountRepository.save(account).getId();
+                })
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,115 @@
+package com.lkj.study.modules.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lkj.study.infra.ContainerBaseTest;
+import com.lkj.study.infra.MockMvcTest;
+import com.lkj.study.modules.account.Account;
+import com.lkj.study.modules.account.AccountFactory;
+import com.lkj.study.modules.account.AccountRepository;
+import com.lkj.study.modules.account.WithAccount;
+import com.lkj.study.modules.event.form.EnrollmentBatchForm;
+import com.lkj.study.modules.event.form.EnrollmentOperationForm;
+import com.lkj.study.modules.study.Study;
+import com.lkj.study.modules.study.StudyFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.willThrow;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 다른 요청이 먼저 모임을 수정해서 commit 때 @Version 확인에 실패한 경우(ObjectOptimisticLockingFailureException)
+ * 오류 화면 대신 모임 화면으로 돌아가서 안내하는지 확인, 실패는 EventService 에서 던지는 것으로 대신함
+ */
+@MockMvcTest
+class EventControllerConflictTest extends ContainerBaseTest {
+
+    @Autowired MockMvc mockMvc;
+    @Autowired ObjectMapper objectMapper;
+    @Autowired StudyFactory studyFactory;
+    @Autowired AccountFactory accountFactory;
+    @Autowired AccountRepository accountRepository;
+    @Autowired EventRepository eventRepository;
+    @Autowired EnrollmentRepository enrollmentRepository;
+
+    @MockBean EventService eventService;
+
+    Study study;
+    Event event;
+    Enrollment enrollment;
+
+    @BeforeEach
+    void beforeEach() {
+        Account manager = accountFactory.createAccount("manager");
+        study = studyFactory.createStudy("test-study", manager);
+
+        event = new Event();
+        event.setStudy(study);
+        event.setCreatedBy(manager);
+        event.setTitle("test-event");
+        event.setEventType(EventType.CONFIRMATIVE);
+        event.setLimitOfEnrollments(2);
+        event.setCreatedDateTime(LocalDateTime.now());
+        event.setEndEnrollmentDateTime(LocalDateTime.now().plusDays(1));
+        event.setStartDateTime(LocalDateTime.now().plusDays(1).plusHours(5));
+        event.setEndDateTime(LocalDateTime.now().plusDays(1).plusHours(7));
+        eventRepository.save(event);
+
+        enrollment = new Enrollment();
+        enrollment.setEvent(event);
+        enrollment.setAccount(accountFactory.createAccount("member"));
+        enrollment.setEnrolledAt(LocalDateTime.now());
+        enrollmentRepository.save(enrollment);
+    }
+
+    @Test
+    @WithAccount("bramhome5848")
+    @DisplayName("참가 신청 수락 중 모임이 먼저 변경됨 - 모임 화면으로 돌아가서 다시 시도하도록 안내")
+    void acceptEnrollment_conflict() throws Exception {
+        study.addManager(accountRepository.findByNickname("bramhome5848"));
+        willThrow(new ObjectOptimisticLockingFailureException(Event.class, event.getId()))
+                .given(eventService).acceptEnrollment(any(), any());
+
+        mockMvc.perform(get("/study/" + study.getPath() + "/events/" + event.getId()
+                        + "/enrollments/" + enrollment.getId() + "/accept"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/study/" + study.getPath() + "/events/" + event.getId()))
+                .andExpect(flash().attribute("message", EventController.CONFLICT_MESSAGE));
+    }
+
+    @Test
+    @WithAccount("bramhome5848")
+    @DisplayName("참가 신청 일괄 처리 중 모임이 먼저 변경됨 - 409 와 안내 문구")
+    void manageEnrollments_conflict() throws Exception {
+        study.addManager(accountRepository.findByNickname("bramhome5848"));
+        willThrow(new ObjectOptimisticLockingFailureException(Event.class, event.getId()))
+                .given(eventService).manageEnrollments(any(), anyList());
+
+        EnrollmentOperationForm operation = new EnrollmentOperationForm();
+        operation.setEnrollmentId(enrollment.getId());
+        operation.setOperation(EnrollmentOperation.ACCEPT);
+        EnrollmentBatchForm batchForm = new EnrollmentBatchForm();
+        batchForm.setOperations(List.of(operation));
+
+        mockMvc.perform(post("/study/" + study.getPath() + "/events/" + event.getId() + "/enrollments")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batchForm))
+                        .with(csrf()))
+                .andExpect(status().isConflict())
+                .andExpect(content().string(EventController.CONFLICT_MESSAGE));
+    }
+}
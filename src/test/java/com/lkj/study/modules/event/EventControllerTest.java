@@ -1,25 +1,39 @@
 package com.lkj.study.modules.event;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.lkj.study.infra.ContainerBaseTest;
 import com.lkj.study.infra.MockMvcTest;
 import com.lkj.study.modules.account.AccountFactory;
 import com.lkj.study.modules.account.AccountRepository;
 import com.lkj.study.modules.account.WithAccount;
 import com.lkj.study.modules.account.Account;
+import com.lkj.study.modules.event.form.EnrollmentBatchForm;
+import com.lkj.study.modules.event.form.EnrollmentOperationForm;
 import com.lkj.study.modules.study.Study;
 import com.lkj.study.modules.study.StudyFactory;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.ModelAndView;
+
+import javax.persistence.EntityManager;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
 
 @MockMvcTest
 class EventControllerTest extends ContainerBaseTest {
@@ -42,6 +56,14 @@ class EventControllerTest extends ContainerBaseTest {
     @Autowired
     AccountRepository accountRepository;
 
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    EntityManager entityManager;
 
 
     @Test
@@ -139,6 +161,77 @@ class EventControllerTest extends ContainerBaseTest {
         assertNull(enrollmentRepository.findByEventAndAccount(event, findAccount));
     }
 
+    @Test
+    @DisplayName("선착순 모임 - 참가 신청/취소에 따라 DB 의 확정, 대기 인원 수가 바뀜")
+    @WithAccount("bramhome5848")
+    void counts_FCFS() {
+        Account account = accountFactory.createAccount("mantojin1988");
+        Study study = studyFactory.createStudy("test-study", account);
+        Event event = createEvent("test-event", EventType.FCFS, 2, study, account);
+
+        Account may = accountFactory.createAccount("may");
+        Account june = accountFactory.createAccount("june");
+        Account july = accountFactory.createAccount("july");
+        eventService.newEnrollment(event, may);
+        eventService.newEnrollment(event, june);
+        eventService.newEnrollment(event, july);
+
+        Event findEvent = reload(event);
+        assertEquals(2, findEvent.getAcceptedCount());
+        assertEquals(1, findEvent.getWaitingCount());
+        assertEquals(0, findEvent.numberOfRemainSpots());
+        isNotAccepted(july, findEvent);
+
+        eventService.cancelEnrollment(findEvent, may);
+
+        findEvent = reload(event);
+        assertEquals(2, findEvent.getAcceptedCount());
+        assertEquals(0, findEvent.getWaitingCount());
+        isAccepted(july, findEvent);
+
+        eventService.cancelEnrollment(findEvent, june);
+
+        findEvent = reload(event);
+        assertEquals(1, findEvent.getAcceptedCount());
+        assertEquals(0, findEvent.getWaitingCount());
+        assertEquals(1, findEvent.numberOfRemainSpots());
+    }
+
+    @Test
+    @DisplayName("관리자 확인 모임 - 다른 모임의 참가 신청 id 로 수락하면 에러, 두 모임의 인원 수는 그대로")
+    @WithAccount("bramhome5848")
+    void acceptEnrollment_of_other_event() throws Exception {
+        Account manager = accountRepository.findByNickname("bramhome5848");
+        Study study = studyFactory.createStudy("test-study", manager);
+        Event event = createEvent("test-event", EventType.CONFIRMATIVE, 2, study, manager);
+        Event otherEvent = createEvent("other-event", EventType.CONFIRMATIVE, 2, study, manager);
+
+        Account may = accountFactory.createAccount("may");
+        eventService.newEnrollment(otherEvent, may);
+        Enrollment enrollment = enrollmentRepository.findByEventAndAccount(otherEvent, may);
+
+        mockMvc.perform(get("/study/" + study.getPath() + "/events/" + event.getId()
+                        + "/enrollments/" + enrollment.getId() + "/accept"))
+                .andExpect(view().name("error"));
+
+        Event findEvent = reload(event);
+        assertEquals(0, findEvent.getAcceptedCount());
+        assertEquals(0, findEvent.getWaitingCount());
+        Event findOtherEvent = eventRepository.findById(otherEvent.getId()).orElseThrow();
+        assertEquals(0, findOtherEvent.getAcceptedCount());
+        assertEquals(1, findOtherEvent.getWaitingCount());
+        isNotAccepted(may, findOtherEvent);
+    }
+
+    /**
+     * 인원 수는 조건부 UPDATE 로 바뀌므로 영속성 컨텍스트를 비우고 다시 읽어야 DB 값을 확인할 수 있음
+     */
+    private Event reload(Event event) {
+        entityManager.flush();
+        entityManager.clear();
+        return eventRepository.findById(event.getId()).orElseThrow();
+    }
+
     private void isNotAccepted(Account account, Event event) {
         assertFalse(enrollmentRepository.findByEventAndAccount(event, account).isAccepted());
     }
@@ -164,6 +257,103 @@ class EventControllerTest extends ContainerBaseTest {
         isNotAccepted(findAccount, event);
     }
 
+    @Test
+    @DisplayName("모임 목록 - 로그인한 계정의 모임별 참가 신청 상태")
+    @WithAccount("bramhome5848")
+    void viewStudyEvents_with_enrollmentStatus() throws Exception {
+        Account account = accountFactory.createAccount("mantojin1988");
+        Study study = studyFactory.createStudy("test-study", account);
+        Event enrolled = createEvent("enrolled-event", EventType.FCFS, 2, study, account);
+        Event notEnrolled = createEvent("not-enrolled-event", EventType.FCFS, 2, study, account);
+
+        Account findAccount = accountRepository.findByNickname("bramhome5848");
+        eventService.newEnrollment(enrolled, findAccount);
+
+        Map<Long, EnrollmentStatus> enrollmentStatus = (Map<Long, EnrollmentStatus>) mockMvc.perform(get("/study/" + study.getPath() + "/events"))
+                .andExpect(status().isOk())
+                .andExpect(model().attributeExists("enrollmentStatus"))
+                .andReturn().getModelAndView().getModel().get("enrollmentStatus");
+
+        assertTrue(enrollmentStatus.get(enrolled.getId()).isAccepted());
+        assertFalse(enrollmentStatus.containsKey(notEnrolled.getId()));
+    }
+
+    @Test
+    @DisplayName("모임 목록 - 새 모임은 모두, 지난 모임은 최근에 끝난 순서로 페이징")
+    @WithAccount("bramhome5848")
+    void viewStudyEvents_paginated_past_events() throws Exception {
+        Account account = accountFactory.createAccount("mantojin1988");
+        Study study = studyFactory.createStudy("test-study", account);
+        Event upcoming = createEvent("upcoming-event", EventType.FCFS, 2, study, account);
+        for (int i = 1; i <= 12; i++) {
+            Event past = createEvent("past-event-" + i, EventType.FCFS, 2, study, account);
+            past.setStartDateTime(LocalDateTime.now().minusDays(20 - i));
+            past.setEndDateTime(LocalDateTime.now().minusDays(20 - i).plusHours(2));
+        }
+
+        ModelAndView mav = mockMvc.perform(get("/study/" + study.getPath() + "/events").param("page", "1"))
+                .andExpect(status().isOk())
+                .andReturn().getModelAndView();
+
+        List<EventCard> newEvents = (List<EventCard>) mav.getModel().get("newEvents");
+        Page<EventCard> oldEventPage = (Page<EventCard>) mav.getModel().get("oldEventPage");
+        assertEquals(List.of(upcoming.getId()), newEvents.stream().map(EventCard::getId).collect(Collectors.toList()));
+        assertEquals(12, oldEventPage.getTotalElements());
+        assertEquals(2, oldEventPage.getContent().size());
+        assertEquals("past-event-2", oldEventPage.getContent().get(0).getTitle());
+        assertEquals("past-event-1", oldEventPage.getContent().get(1).getTitle());
+    }
+
+    @Test
+    @DisplayName("관리자 확인 모임 참가 신청 일괄 처리 - 거절 먼저, 남은 자리만큼 신청 순서대로 수락")
+    @WithAccount("bramhome5848")
+    void manageEnrollments() throws Exception {
+        Account manager = accountRepository.findByNickname("bramhome5848");
+        Study study = studyFactory.createStudy("test-study", manager);
+        Event event = createEvent("test-event", EventType.CONFIRMATIVE, 2, study, manager);
+
+        Account may = accountFactory.createAccount("may");
+        Account june = accountFactory.createAccount("june");
+        Account july = accountFactory.createAccount("july");
+        eventService.newEnrollment(event, may);
+        eventService.newEnrollment(event, june);
+        eventService.newEnrollment(event, july);
+        Long mayId = enrollmentRepository.findByEventAndAccount(event, may).getId();
+        Long juneId = enrollmentRepository.findByEventAndAccount(event, june).getId();
+        Long julyId = enrollmentRepository.findByEventAndAccount(event, july).getId();
+
+        manageEnrollments(study, event, Map.of(mayId, EnrollmentOperation.ACCEPT,
+                juneId, EnrollmentOperation.ACCEPT, julyId, EnrollmentOperation.ACCEPT));
+        isAccepted(may, event);
+        isAccepted(june, event);
+        isNotAccepted(july, event);
+
+        manageEnrollments(study, event, Map.of(mayId, EnrollmentOperation.REJECT, julyId, EnrollmentOperation.ACCEPT));
+        isNotAccepted(may, event);
+        isAccepted(june, event);
+        isAccepted(july, event);
+
+        Event findEvent = eventRepository.findById(event.getId()).orElseThrow();
+        assertEquals(2, findEvent.getAcceptedCount());
+        assertEquals(1, findEvent.getWaitingCount());
+    }
+
+    private void manageEnrollments(Study study, Event event, Map<Long, EnrollmentOperation> operations) throws Exception {
+        EnrollmentBatchForm enrollmentBatchForm = new EnrollmentBatchForm();
+        operations.forEach((enrollmentId, operation) -> {
+            EnrollmentOperationForm operationForm = new EnrollmentOperationForm();
+            operationForm.setEnrollmentId(enrollmentId);
+            operationForm.setOperation(operation);
+            enrollmentBatchForm.getOperations().add(operationForm);
+        });
+
+        mockMvc.perform(post("/study/" + study.getPath() + "/events/" + event.getId() + "/enrollments")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(enrollmentBatchForm))
+                .with(csrf()))
+                .andExpect(status().isOk());
+    }
+
     private Event createEvent(String eventTitle, EventType eventType, int limit, Study study, Account account) {
         Event event = new Event();
         event.setEventType(eventType);
@@ -0,0 +1,64 @@
+package com.lkj.study.modules.event;
+
+import com.lkj.study.modules.account.Account;
+import com.lkj.study.modules.event.checkin.CheckInDesk;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class EventServiceTest {
+
+    EventRepository eventRepository = mock(EventRepository.class);
+    EnrollmentRepository enrollmentRepository = mock(EnrollmentRepository.class);
+
+    EventService eventService;
+
+    Event event;
+
+    Account account;
+
+    @BeforeEach
+    void beforeEach() {
+        eventService = new EventService(eventRepository, new ModelMapper(), enrollmentRepository,
+                mock(ApplicationEventPublisher.class), mock(CheckInDesk.class));
+
+        event = new Event();
+        event.setId(1L);
+        event.setEventType(EventType.FCFS);
+        account = new Account();
+        account.setId(10L);
+        given(eventRepository.reserveSeat(event)).willReturn(true);
+    }
+
+    @Test
+    @DisplayName("참가 신청 - 같은 계정의 신청이 동시에 들어와 unique 제약에 걸리면 DuplicateEnrollmentException")
+    void newEnrollment_duplicate() {
+        given(enrollmentRepository.saveAndFlush(any())).willThrow(violation("UK_ENROLLMENT_EVENT_ACCOUNT_INDEX_3"));
+
+        assertThrows(DuplicateEnrollmentException.class, () -> eventService.newEnrollment(event, account));
+    }
+
+    @Test
+    @DisplayName("참가 신청 - 다른 제약 위반은 그대로 던짐")
+    void newEnrollment_other_violation() {
+        given(enrollmentRepository.saveAndFlush(any())).willThrow(violation("fk_enrollment_account"));
+
+        assertThrows(DataIntegrityViolationException.class, () -> eventService.newEnrollment(event, account));
+    }
+
+    private DataIntegrityViolationException violation(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement", new SQLException(), constraintName));
+    }
+}
@@ -0,0 +1,76 @@
+package com.lkj.study.modules.event;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventTest {
+
+    Event event;
+
+    @BeforeEach
+    void beforeEach() {
+        event = new Event();
+        event.setId(1L);
+        event.setEventType(EventType.CONFIRMATIVE);
+        event.setLimitOfEnrollments(2);
+    }
+
+    @DisplayName("확인 모임 - 수락/거절에 따라 확정, 대기 인원 수가 바뀌고 같은 요청을 반복해도 한 번만 반영")
+    @Test
+    void counts_CONFIRMATIVE() {
+        Enrollment enrollment = enroll(event);
+        enroll(event);
+        assertEquals(0, event.getAcceptedCount());
+        assertEquals(2, event.getWaitingCount());
+
+        assertTrue(event.canAccept(enrollment));
+        assertTrue(event.accept(enrollment));
+        assertFalse(event.accept(enrollment));
+        assertEquals(1, event.getAcceptedCount());
+        assertEquals(1, event.getWaitingCount());
+        assertTrue(event.canReject(enrollment));
+
+        assertTrue(event.reject(enrollment));
+        assertFalse(event.reject(enrollment));
+        assertEquals(0, event.getAcceptedCount());
+        assertEquals(2, event.getWaitingCount());
+    }
+
+    @DisplayName("확인 모임 - 다른 모임의 참가 신청은 수락/거절해도 인원 수가 바뀌지 않음")
+    @Test
+    void accept_other_event_enrollment() {
+        Event other = new Event();
+        other.setId(2L);
+        other.setEventType(EventType.CONFIRMATIVE);
+        other.setLimitOfEnrollments(2);
+        Enrollment enrollment = enroll(other);
+
+        assertFalse(event.canAccept(enrollment));
+        assertFalse(event.accept(enrollment));
+        assertFalse(enrollment.isAccepted());
+        assertEquals(0, event.getAcceptedCount());
+        assertEquals(0, event.getWaitingCount());
+
+        enrollment.setAccepted(true);
+        assertFalse(event.canReject(enrollment));
+        assertFalse(event.reject(enrollment));
+        assertTrue(enrollment.isAccepted());
+        assertEquals(0, event.getAcceptedCount());
+        assertEquals(0, event.getWaitingCount());
+    }
+
+    /**
+     * 실제 신청은 EventService.newEnrollment 의 조건부 UPDATE 로 인원 수가 바뀜 (EventControllerTest 에서 검증)
+     * 여기서는 대기 상태의 신청 하나가 들어온 상태만 맞춰 둠
+     */
+    private Enrollment enroll(Event target) {
+        Enrollment enrollment = new Enrollment();
+        enrollment.setEvent(target);
+        target.getEnrollments().add(enrollment);
+        target.setWaitingCount(target.getWaitingCount() + 1);
+        return enrollment;
+    }
+}
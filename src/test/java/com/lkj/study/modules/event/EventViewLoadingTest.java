@@ -0,0 +1,136 @@
+package com.lkj.study.modules.event;
+
+import com.lkj.study.infra.ContainerBaseTest;
+import com.lkj.study.infra.MockMvcTest;
+import com.lkj.study.modules.account.Account;
+import com.lkj.study.modules.account.AccountFactory;
+import com.lkj.study.modules.account.AccountRepository;
+import com.lkj.study.modules.account.WithAccount;
+import com.lkj.study.modules.study.Study;
+import com.lkj.study.modules.study.StudyFactory;
+import com.lkj.study.modules.study.StudyHeader;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.ModelAndView;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
+
+/**
+ * 모임 조회 화면이 참가 신청 수와 관계없이 정해진 수의 쿼리로 그려지는지 확인
+ * 스터디는 projection(StudyHeader), 참가 신청은 EventController.ROSTER_SIZE 건씩만 조회
+ */
+@MockMvcTest
+class EventViewLoadingTest extends ContainerBaseTest {
+
+    static final int ENROLLMENTS = 50;
+    static final int MANAGERS = 3;
+
+    @Autowired MockMvc mockMvc;
+    @Autowired StudyFactory studyFactory;
+    @Autowired AccountFactory accountFactory;
+    @Autowired AccountRepository accountRepository;
+    @Autowired EventService eventService;
+    @Autowired EntityManager entityManager;
+    @Autowired EntityManagerFactory entityManagerFactory;
+
+    Statistics statistics;
+
+    @BeforeEach
+    void beforeEach() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @WithAccount("bramhome5848")
+    @DisplayName("모임 조회 - 참가 신청 수와 관계없이 정해진 수의 쿼리로 조회, 참가 신청은 한 페이지만")
+    void viewEvent() throws Exception {
+        Event event = createLargeEvent();
+
+        statistics.clear();
+        ModelAndView mav = mockMvc.perform(get("/study/" + event.getStudy().getPath() + "/events/" + event.getId()))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("waitingPosition", 2L))
+                .andExpect(model().attribute("study", instanceOf(StudyHeader.class)))
+                .andReturn().getModelAndView();
+
+        // 경로 -> id(StudyPathCache 에 없을 때) 1, 스터디 1, 관리자 1, 모임 1, 참가 신청 한 페이지 1,
+        // 보는 계정의 신청(+계정) 2, 대기 순번 1, 알림 count 1
+        assertTrue(statistics.getPrepareStatementCount() <= 9, "queries: " + statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getCollectionFetchCount());
+
+        Page<?> enrollmentPage = (Page<?>) mav.getModel().get("enrollmentPage");
+        assertEquals(EventController.ROSTER_SIZE, enrollmentPage.getContent().size());
+        assertEquals(ENROLLMENTS + 1, enrollmentPage.getTotalElements());
+        assertEquals(MANAGERS, ((StudyHeader) mav.getModel().get("study")).getManagers().size());
+    }
+
+    @Test
+    @WithAccount("bramhome5848")
+    @DisplayName("모임 조회 - 참가 신청 다음 페이지")
+    void viewEvent_next_roster_page() throws Exception {
+        Event event = createLargeEvent();
+
+        ModelAndView mav = mockMvc.perform(get("/study/" + event.getStudy().getPath() + "/events/" + event.getId())
+                        .param("page", "1"))
+                .andExpect(status().isOk())
+                .andReturn().getModelAndView();
+
+        Page<?> enrollmentPage = (Page<?>) mav.getModel().get("enrollmentPage");
+        assertEquals(ENROLLMENTS + 1 - EventController.ROSTER_SIZE, enrollmentPage.getContent().size());
+    }
+
+    @Test
+    @WithAccount("bramhome5848")
+    @DisplayName("모임 조회 - 다른 스터디 경로로는 조회할 수 없음")
+    void viewEvent_with_wrong_path() throws Exception {
+        Event event = createLargeEvent();
+        Study other = studyFactory.createStudy("other-study", accountFactory.createAccount("other"));
+
+        mockMvc.perform(get("/study/" + other.getPath() + "/events/" + event.getId()))
+                .andExpect(status().isOk())
+                .andExpect(view().name("error"));
+    }
+
+    /**
+     * 정원 ENROLLMENTS - 2 인 선착순 모임에 ENROLLMENTS 명 신청 후 로그인 계정이 두 번째 대기자가 되도록 신청
+     */
+    private Event createLargeEvent() {
+        Account manager = accountFactory.createAccount("manager");
+        Study study = studyFactory.createStudy("large-study", manager);
+        for (int i = 1; i < MANAGERS; i++) {
+            study.addManager(accountFactory.createAccount("manager" + i));
+        }
+
+        Event event = new Event();
+        event.setTitle("large-event");
+        event.setEventType(EventType.FCFS);
+        event.setLimitOfEnrollments(ENROLLMENTS - 1);
+        event.setEndEnrollmentDateTime(LocalDateTime.now().plusDays(1));
+        event.setStartDateTime(LocalDateTime.now().plusDays(1).plusHours(5));
+        event.setEndDateTime(LocalDateTime.now().plusDays(1).plusHours(7));
+        eventService.createEvent(event, study, manager);
+        for (int i = 0; i < ENROLLMENTS; i++) {
+            eventService.newEnrollment(event, accountFactory.createAccount("member" + i));
+        }
+        eventService.newEnrollment(event, accountRepository.findByNickname("bramhome5848"));
+
+        entityManager.flush();
+        entityManager.clear();
+        return event;
+    }
+}
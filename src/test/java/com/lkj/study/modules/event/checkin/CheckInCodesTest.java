@@ -0,0 +1,49 @@
+package com.lkj.study.modules.event.checkin;
+
+import com.lkj.study.infra.config.AppProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CheckInCodesTest {
+
+    @Test
+    @DisplayName("같은 모임, 같은 신청이면 항상 같은 코드, 헷갈리는 글자 없이 8자리")
+    void same_code_for_same_enrollment() {
+        CheckInCodes checkInCodes = checkInCodes("secret");
+
+        String code = checkInCodes.codeOf(1L, 10L);
+        assertEquals(code, checkInCodes.codeOf(1L, 10L));
+        assertEquals(8, code.length());
+        assertTrue(code.matches("[A-HJ-NP-Z2-9]{8}"), code);
+    }
+
+    @Test
+    @DisplayName("신청이나 모임이 다르면 다른 코드")
+    void different_code_for_different_enrollment() {
+        CheckInCodes checkInCodes = checkInCodes("secret");
+
+        assertNotEquals(checkInCodes.codeOf(1L, 10L), checkInCodes.codeOf(1L, 11L));
+        assertNotEquals(checkInCodes.codeOf(1L, 10L), checkInCodes.codeOf(2L, 10L));
+    }
+
+    @Test
+    @DisplayName("서버의 key 가 다르면 같은 신청이라도 다른 코드 - 신청 id 만으로는 코드를 만들 수 없음")
+    void different_code_for_different_secret() {
+        assertNotEquals(checkInCodes("secret").codeOf(1L, 10L), checkInCodes("other-secret").codeOf(1L, 10L));
+    }
+
+    @Test
+    @DisplayName("서버의 key 가 설정되지 않으면 시작하지 않음")
+    void no_secret() {
+        assertThrows(IllegalStateException.class, () -> checkInCodes(null));
+        assertThrows(IllegalStateException.class, () -> checkInCodes(" "));
+    }
+
+    private CheckInCodes checkInCodes(String secret) {
+        AppProperties appProperties = new AppProperties();
+        appProperties.setCheckInSecret(secret);
+        return new CheckInCodes(appProperties);
+    }
+}
@@ -0,0 +1,176 @@
+package com.lkj.study.modules.event.checkin;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lkj.study.infra.ContainerBaseTest;
+import com.lkj.study.infra.MockMvcTest;
+import com.lkj.study.modules.account.Account;
+import com.lkj.study.modules.account.AccountFactory;
+import com.lkj.study.modules.account.AccountRepository;
+import com.lkj.study.modules.account.WithAccount;
+import com.lkj.study.modules.event.Enrollment;
+import com.lkj.study.modules.event.EnrollmentOperation;
+import com.lkj.study.modules.event.EnrollmentRepository;
+import com.lkj.study.modules.event.Event;
+import com.lkj.study.modules.event.EventService;
+import com.lkj.study.modules.event.EventType;
+import com.lkj.study.modules.event.form.CheckInForm;
+import com.lkj.study.modules.event.form.EnrollmentBatchForm;
+import com.lkj.study.modules.event.form.EnrollmentOperationForm;
+import com.lkj.study.modules.study.Study;
+import com.lkj.study.modules.study.StudyFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
+
+@MockMvcTest
+class CheckInControllerTest extends ContainerBaseTest {
+
+    @Autowired MockMvc mockMvc;
+    @Autowired ObjectMapper objectMapper;
+    @Autowired StudyFactory studyFactory;
+    @Autowired AccountFactory accountFactory;
+    @Autowired AccountRepository accountRepository;
+    @Autowired EventService eventService;
+    @Autowired EnrollmentRepository enrollmentRepository;
+    @Autowired CheckInDesk checkInDesk;
+
+    Event event;
+
+    @AfterEach
+    void afterEach() {
+        if (event != null && checkInDesk.getRoster(event.getId()) != null) {
+            checkInDesk.close(event.getId());
+        }
+    }
+
+    @Test
+    @WithAccount("bramhome5848")
+    @DisplayName("체크인 모드 시작 - 스터디 관리자")
+    void openCheckInMode() throws Exception {
+        Account manager = accountRepository.findByNickname("bramhome5848");
+        Study study = studyFactory.createStudy("test-study", manager);
+        event = createEvent(study, manager);
+
+        mockMvc.perform(post("/study/" + study.getPath() + "/events/" + event.getId() + "/check-in-mode")
+                        .with(csrf()))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/study/" + study.getPath() + "/events/" + event.getId() + "/check-in"));
+
+        CheckInRoster roster = checkInDesk.getRoster(event.getId());
+        assertNotNull(roster);
+        assertTrue(roster.isManager(manager.getId()));
+        assertEquals(1, roster.size());
+    }
+
+    @Test
+    @WithAccount("bramhome5848")
+    @DisplayName("체크인 모드 시작 - 관리자가 아니면 시작할 수 없음")
+    void openCheckInMode_not_manager() throws Exception {
+        Account manager = accountFactory.createAccount("manager");
+        Study study = studyFactory.createStudy("test-study", manager);
+        event = createEvent(study, manager);
+
+        mockMvc.perform(post("/study/" + study.getPath() + "/events/" + event.getId() + "/check-in-mode")
+                        .with(csrf()))
+                .andExpect(view().name("error"));
+
+        assertNull(checkInDesk.getRoster(event.getId()));
+    }
+
+    @Test
+    @WithAccount("bramhome5848")
+    @DisplayName("체크인 - 관리자는 체크인, 관리자가 아니면 403, 체크인 모드가 아니면 409")
+    void checkIn() throws Exception {
+        Account account = accountRepository.findByNickname("bramhome5848");
+        Account manager = accountFactory.createAccount("manager");
+        Study study = studyFactory.createStudy("test-study", manager);
+        event = createEvent(study, manager);
+
+        mockMvc.perform(checkInRequest(study, "member"))
+                .andExpect(status().isConflict());
+
+        checkInDesk.open(event, Set.of(manager.getId()));
+        mockMvc.perform(checkInRequest(study, "member"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/study/" + study.getPath() + "/events/" + event.getId() + "/check-in"))
+                .andExpect(view().name("error"));
+
+        checkInDesk.close(event.getId());
+        checkInDesk.open(event, Set.of(account.getId()));
+        mockMvc.perform(checkInRequest(study, "member"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("CHECKED_IN"))
+                .andExpect(jsonPath("$.nickname").value("member"));
+    }
+
+    @Test
+    @WithAccount("bramhome5848")
+    @DisplayName("체크인 모드 중에는 참가 신청 관리 화면에서 출석 여부를 변경할 수 없음")
+    void attendance_locked_in_check_in_mode() throws Exception {
+        Account manager = accountRepository.findByNickname("bramhome5848");
+        Study study = studyFactory.createStudy("test-study", manager);
+        event = createEvent(study, manager);
+        Enrollment enrollment = enrollmentRepository.findByEventAndAccount(event, accountRepository.findByNickname("member"));
+        enrollment.setAttended(true);
+        checkInDesk.open(event, Set.of(manager.getId()));
+
+        mockMvc.perform(get("/study/" + study.getPath() + "/events/" + event.getId()
+                        + "/enrollments/" + enrollment.getId() + "/cancel-checkin"))
+                .andExpect(view().name("error"));
+
+        EnrollmentOperationForm operation = new EnrollmentOperationForm();
+        operation.setEnrollmentId(enrollment.getId());
+        operation.setOperation(EnrollmentOperation.CANCEL_CHECK_IN);
+        EnrollmentBatchForm batchForm = new EnrollmentBatchForm();
+        batchForm.setOperations(List.of(operation));
+        mockMvc.perform(post("/study/" + study.getPath() + "/events/" + event.getId() + "/enrollments")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batchForm))
+                        .with(csrf()))
+                .andExpect(status().isConflict());
+
+        assertTrue(enrollmentRepository.findById(enrollment.getId()).orElseThrow().isAttended());
+    }
+
+    private MockHttpServletRequestBuilder checkInRequest(Study study, String key) throws Exception {
+        CheckInForm checkInForm = new CheckInForm();
+        checkInForm.setKey(key);
+        return post("/study/" + study.getPath() + "/events/" + event.getId() + "/check-in")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(checkInForm))
+                .with(csrf());
+    }
+
+    /**
+     * "member" 계정이 확정된 선착순 모임
+     */
+    private Event createEvent(Study study, Account manager) {
+        Event event = new Event();
+        event.setEventType(EventType.FCFS);
+        event.setLimitOfEnrollments(2);
+        event.setTitle("test-event");
+        event.setEndEnrollmentDateTime(LocalDateTime.now().plusDays(1));
+        event.setStartDateTime(LocalDateTime.now().plusDays(1).plusHours(5));
+        event.setEndDateTime(LocalDateTime.now().plusDays(1).plusHours(7));
+        eventService.createEvent(event, study, manager);
+        eventService.newEnrollment(event, accountFactory.createAccount("member"));
+        return event;
+    }
+}
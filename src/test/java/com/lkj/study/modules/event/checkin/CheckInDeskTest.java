@@ -0,0 +1,124 @@
+package com.lkj.study.modules.event.checkin;
+
+import com.lkj.study.infra.config.AppProperties;
+import com.lkj.study.modules.event.EnrollmentRepository;
+import com.lkj.study.modules.event.Event;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+class CheckInDeskTest {
+
+    @TempDir
+    Path directory;
+
+    EnrollmentRepository enrollmentRepository = mock(EnrollmentRepository.class);
+
+    CheckInDesk checkInDesk;
+
+    Event event;
+
+    @BeforeEach
+    void beforeEach() {
+        AppProperties appProperties = new AppProperties();
+        appProperties.setCheckInDirectory(directory.toString());
+        appProperties.setCheckInSecret("secret");
+        checkInDesk = new CheckInDesk(enrollmentRepository, new CheckInCodes(appProperties), new CheckInJournal(appProperties));
+
+        event = new Event();
+        event.setId(1L);
+        event.setTitle("event");
+        event.setEndDateTime(LocalDateTime.now().plusHours(2));
+        given(enrollmentRepository.findCheckInAttendees(any())).willReturn(List.of(
+                new CheckInAttendee(10L, "alice", false),
+                new CheckInAttendee(11L, "bob", false)));
+    }
+
+    @Test
+    @DisplayName("체크인은 바로 DB 에 쓰지 않고 flush 때 모아서 한 번에 반영")
+    void checkIn_and_flush() {
+        CheckInRoster roster = checkInDesk.open(event, Set.of(100L));
+
+        assertEquals(CheckInResult.Status.CHECKED_IN, checkInDesk.checkIn(roster, "alice").getStatus());
+        assertEquals(CheckInResult.Status.CHECKED_IN, checkInDesk.checkIn(roster, "bob").getStatus());
+        assertEquals(CheckInResult.Status.ALREADY_CHECKED_IN, checkInDesk.checkIn(roster, "alice").getStatus());
+        assertEquals(CheckInResult.Status.NOT_FOUND, checkInDesk.checkIn(roster, "nobody").getStatus());
+        then(enrollmentRepository).should(never()).checkInAll(anyList());
+
+        checkInDesk.flush();
+        then(enrollmentRepository).should().checkInAll(List.of(10L, 11L));
+
+        // 반영이 끝난 기록은 다시 반영하지 않음
+        checkInDesk.flush();
+        then(enrollmentRepository).should(times(1)).checkInAll(anyList());
+    }
+
+    @Test
+    @DisplayName("DB 반영에 실패하면 다음 flush 때 다시 반영하고, 그 전까지 출석 여부 변경을 막음")
+    void flush_failed() {
+        CheckInRoster roster = checkInDesk.open(event, Set.of(100L));
+        checkInDesk.checkIn(roster, "alice");
+        given(enrollmentRepository.checkInAll(anyList()))
+                .willThrow(new DataAccessResourceFailureException("down"))
+                .willReturn(1);
+
+        checkInDesk.close(event.getId());
+        assertTrue(checkInDesk.isAttendanceLocked(event.getId(), List.of(10L)));
+        assertFalse(checkInDesk.isAttendanceLocked(event.getId(), List.of(11L)));
+
+        checkInDesk.flush();
+        then(enrollmentRepository).should(times(2)).checkInAll(List.of(10L));
+        assertFalse(checkInDesk.isAttendanceLocked(event.getId(), List.of(10L)));
+    }
+
+    @Test
+    @DisplayName("체크인 모드 중에는 모임의 모든 신청의 출석 여부 변경을 막고, 종료하면 남은 기록을 반영")
+    void attendance_locked_while_open() {
+        CheckInRoster roster = checkInDesk.open(event, Set.of(100L));
+        assertTrue(checkInDesk.isAttendanceLocked(event.getId(), List.of(11L)));
+        assertFalse(checkInDesk.isAttendanceLocked(2L, List.of(20L)));
+
+        checkInDesk.checkIn(roster, "alice");
+        checkInDesk.close(event.getId());
+
+        then(enrollmentRepository).should().checkInAll(List.of(10L));
+        assertNull(checkInDesk.getRoster(event.getId()));
+        assertFalse(checkInDesk.isAttendanceLocked(event.getId(), List.of(10L, 11L)));
+    }
+
+    @Test
+    @DisplayName("닫지 않은 체크인 모드는 모임이 끝나면 만료되어 출석 여부 변경을 다시 허용")
+    void roster_expired() {
+        event.setEndDateTime(LocalDateTime.now().minusMinutes(1));
+        checkInDesk.open(event, Set.of(100L));
+
+        assertNull(checkInDesk.getRoster(event.getId()));
+        assertFalse(checkInDesk.isAttendanceLocked(event.getId(), List.of(10L)));
+
+        Event other = new Event();
+        other.setId(2L);
+        other.setTitle("other");
+        other.setEndDateTime(LocalDateTime.now().plusHours(2));
+        checkInDesk.open(other, Set.of(100L));
+
+        checkInDesk.evictExpired();
+        assertNull(checkInDesk.getRoster(event.getId()));
+        assertNotNull(checkInDesk.getRoster(other.getId()));
+    }
+}
@@ -0,0 +1,70 @@
+package com.lkj.study.modules.event.checkin;
+
+import com.lkj.study.infra.config.AppProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CheckInJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("동시에 기록해도 모두 남고, seal 전에 서버가 내려가도 다음 시작 때 다시 읽음")
+    void append_concurrently_and_recover() throws Exception {
+        CheckInJournal checkInJournal = new CheckInJournal(appProperties());
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = LongStream.rangeClosed(1, 200)
+                .mapToObj(id -> executor.submit(() -> checkInJournal.append(id)))
+                .collect(Collectors.toList());
+        for (int i = 0; i < futures.size(); i++) {
+            if (i == 100) {
+                checkInJournal.seal();
+            }
+            futures.get(i).get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        Set<Long> expected = LongStream.rangeClosed(1, 200).boxed().collect(Collectors.toSet());
+        assertTrue(checkInJournal.containsAny(List.of(1L, 200L)));
+        assertFalse(checkInJournal.containsAny(List.of(201L)));
+        checkInJournal.close();
+
+        CheckInJournal recovered = new CheckInJournal(appProperties());
+        assertEquals(expected, new HashSet<>(recovered.seal()));
+    }
+
+    @Test
+    @DisplayName("DB 반영이 끝난(commit) 기록은 다시 읽지 않음")
+    void commit() {
+        CheckInJournal checkInJournal = new CheckInJournal(appProperties());
+        checkInJournal.append(1L);
+        assertEquals(List.of(1L), checkInJournal.seal());
+
+        checkInJournal.commit();
+        assertFalse(checkInJournal.containsAny(List.of(1L)));
+        checkInJournal.close();
+
+        assertTrue(new CheckInJournal(appProperties()).seal().isEmpty());
+    }
+
+    private AppProperties appProperties() {
+        AppProperties appProperties = new AppProperties();
+        appProperties.setCheckInDirectory(directory.toString());
+        return appProperties;
+    }
+}
@@ -0,0 +1,110 @@
+package com.lkj.study.modules.event.checkin;
+
+import com.lkj.study.infra.config.AppProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CheckInRosterTest {
+
+    static final Long EVENT_ID = 1L;
+
+    static final LocalDateTime END_DATE_TIME = LocalDateTime.of(2030, 1, 1, 18, 0);
+
+    CheckInCodes checkInCodes;
+
+    CheckInRoster roster;
+
+    @BeforeEach
+    void beforeEach() {
+        AppProperties appProperties = new AppProperties();
+        appProperties.setCheckInSecret("secret");
+        checkInCodes = new CheckInCodes(appProperties);
+        roster = new CheckInRoster(EVENT_ID, "event", END_DATE_TIME, Set.of(100L), List.of(
+                new CheckInAttendee(10L, "alice", false),
+                new CheckInAttendee(11L, "bob", true),
+                new CheckInAttendee(12L, "12345", false)), checkInCodes);
+    }
+
+    @Test
+    @DisplayName("체크인 코드(대소문자 무관, 앞뒤 공백 무시), 닉네임, 신청 id 로 찾음")
+    void find() {
+        String code = checkInCodes.codeOf(EVENT_ID, 10L);
+        assertEquals(10L, roster.find(code).getEnrollmentId());
+        assertEquals(10L, roster.find(" " + code.toLowerCase() + " ").getEnrollmentId());
+        assertEquals(11L, roster.find("bob").getEnrollmentId());
+        assertEquals(10L, roster.find("10").getEnrollmentId());
+    }
+
+    @Test
+    @DisplayName("닉네임이 숫자인 경우 신청 id 보다 닉네임이 먼저")
+    void find_nickname_before_enrollment_id() {
+        assertEquals(12L, roster.find("12345").getEnrollmentId());
+    }
+
+    @Test
+    @DisplayName("명단에 없는 값, 빈 값, long 범위를 넘는 숫자는 찾지 못함")
+    void find_not_found() {
+        assertNull(roster.find("nobody"));
+        assertNull(roster.find("99"));
+        assertNull(roster.find(""));
+        assertNull(roster.find(null));
+        assertNull(roster.find("99999999999999999999"));
+        assertNull(roster.find(checkInCodes.codeOf(2L, 10L)));
+    }
+
+    @Test
+    @DisplayName("체크인 코드가 겹치면 명단을 만들 수 있고, 겹친 코드로는 찾지 않고 닉네임으로 찾음")
+    void duplicated_code() {
+        AppProperties appProperties = new AppProperties();
+        appProperties.setCheckInSecret("secret");
+        CheckInCodes sameCodes = new CheckInCodes(appProperties) {
+            @Override
+            public String codeOf(Long eventId, Long enrollmentId) {
+                return enrollmentId == 12L ? "UNIQUE22" : "SAMECODE";
+            }
+        };
+
+        CheckInRoster duplicated = new CheckInRoster(EVENT_ID, "event", END_DATE_TIME, Set.of(100L), List.of(
+                new CheckInAttendee(10L, "alice", false),
+                new CheckInAttendee(11L, "bob", false),
+                new CheckInAttendee(12L, "carol", false)), sameCodes);
+
+        assertEquals(3, duplicated.size());
+        assertNull(duplicated.find("SAMECODE"));
+        assertEquals(12L, duplicated.find("UNIQUE22").getEnrollmentId());
+        assertEquals(10L, duplicated.find("alice").getEnrollmentId());
+        assertEquals(11L, duplicated.find("bob").getEnrollmentId());
+    }
+
+    @Test
+    @DisplayName("모임 종료 시각이 지나면 만료")
+    void expired() {
+        assertFalse(roster.isExpired(END_DATE_TIME));
+        assertTrue(roster.isExpired(END_DATE_TIME.plusSeconds(1)));
+    }
+
+    @Test
+    @DisplayName("이미 출석한 신청은 다시 체크인되지 않음, 관리자 확인")
+    void markAttended() {
+        assertEquals(3, roster.size());
+        assertEquals(1, roster.getAttendedCount());
+
+        assertTrue(roster.markAttended(roster.find("alice")));
+        assertFalse(roster.markAttended(roster.find("alice")));
+        assertFalse(roster.markAttended(roster.find("bob")));
+        assertEquals(2, roster.getAttendedCount());
+
+        roster.unmarkAttended(roster.find("alice"));
+        assertEquals(1, roster.getAttendedCount());
+
+        assertTrue(roster.isManager(100L));
+        assertFalse(roster.isManager(10L));
+    }
+}
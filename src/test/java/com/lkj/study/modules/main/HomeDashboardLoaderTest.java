@@ -0,0 +1,112 @@
+package com.lkj.study.modules.main;
+
+import com.lkj.study.modules.account.Account;
+import com.lkj.study.modules.account.AccountRepository;
+import com.lkj.study.modules.event.Enrollment;
+import com.lkj.study.modules.event.EnrollmentRepository;
+import com.lkj.study.modules.study.StudyRecommendations;
+import com.lkj.study.modules.study.StudyRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+class HomeDashboardLoaderTest {
+
+    static final long SLOW_MILLIS = HomeDashboardLoader.TIMEOUT_MILLIS + 500;
+
+    AccountRepository accountRepository = mock(AccountRepository.class);
+    EnrollmentRepository enrollmentRepository = mock(EnrollmentRepository.class);
+    StudyRepository studyRepository = mock(StudyRepository.class);
+    StudyRecommendations studyRecommendations = mock(StudyRecommendations.class);
+    PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    HomeDashboardLoader homeDashboardLoader;
+
+    Account account;
+
+    @BeforeEach
+    void beforeEach() {
+        given(transactionManager.getTransaction(any())).willAnswer(invocation -> new SimpleTransactionStatus());
+        homeDashboardLoader = new HomeDashboardLoader(accountRepository, enrollmentRepository, studyRepository,
+                studyRecommendations, meterRegistry, transactionManager);
+
+        account = Account.builder().id(1L).nickname("bramhome5848").build();
+        given(accountRepository.findAccountWithTagsAndZonesById(1L)).willReturn(account);
+    }
+
+    @AfterEach
+    void afterEach() {
+        homeDashboardLoader.destroy();
+    }
+
+    @Test
+    @DisplayName("모든 조회는 timeout 이 걸린 읽기 전용 transaction 에서 실행")
+    void load_with_transaction_timeout() {
+        HomeDashboard homeDashboard = homeDashboardLoader.load(account);
+
+        assertEquals(account, homeDashboard.getAccount());
+        ArgumentCaptor<TransactionDefinition> definitions = ArgumentCaptor.forClass(TransactionDefinition.class);
+        then(transactionManager).should(atLeastOnce()).getTransaction(definitions.capture());
+        assertTrue(definitions.getAllValues().stream().allMatch(definition ->
+                definition.isReadOnly() && definition.getTimeout() == HomeDashboardLoader.QUERY_TIMEOUT_SECONDS));
+    }
+
+    @Test
+    @DisplayName("시간 안에 끝나지 않은 목록은 빈 목록으로 표시하고 timeout 횟수를 기록")
+    void load_slow_widget() {
+        given(enrollmentRepository.findByAccountAndAcceptedOrderByEnrolledAtDesc(eq(account), anyBoolean()))
+                .willAnswer(invocation -> {
+                    Thread.sleep(SLOW_MILLIS);
+                    return List.of(new Enrollment());
+                });
+
+        HomeDashboard homeDashboard = homeDashboardLoader.load(account);
+
+        assertEquals(account, homeDashboard.getAccount());
+        assertTrue(homeDashboard.getEnrollmentList().isEmpty());
+        assertEquals(1, meterRegistry.counter("home.widget.timeout", "widget", "enrollmentList").count());
+        assertEquals(0, meterRegistry.counter("home.widget.timeout", "widget", "studyManagerOf").count());
+    }
+
+    @Test
+    @DisplayName("계정 조회가 시간 안에 끝나지 않으면 요청 thread 에서 timeout 이 걸린 transaction 으로 다시 조회")
+    void load_slow_account() {
+        given(accountRepository.findAccountWithTagsAndZonesById(1L))
+                .willAnswer(invocation -> {
+                    Thread.sleep(SLOW_MILLIS);
+                    return account;
+                })
+                .willReturn(account);
+
+        HomeDashboard homeDashboard = homeDashboardLoader.load(account);
+
+        assertEquals(account, homeDashboard.getAccount());
+        assertEquals(1, meterRegistry.counter("home.widget.timeout", "widget", "account").count());
+        then(accountRepository).should(times(2)).findAccountWithTagsAndZonesById(1L);
+
+        ArgumentCaptor<TransactionDefinition> definitions = ArgumentCaptor.forClass(TransactionDefinition.class);
+        then(transactionManager).should(atLeastOnce()).getTransaction(definitions.capture());
+        assertTrue(definitions.getAllValues().stream().allMatch(definition ->
+                definition.getTimeout() == HomeDashboardLoader.QUERY_TIMEOUT_SECONDS));
+    }
+}
@@ -17,6 +17,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.security.test.web.servlet.response.SecurityMockMvcResultMatchers.authenticated;
 import static org.springframework.security.test.web.servlet.response.SecurityMockMvcResultMatchers.unauthenticated;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -93,4 +94,15 @@ class MainControllerTest extends ContainerBaseTest {
                 .andExpect(unauthenticated());
     }
 
-}
\ No newline at end of file
+    @WithMockUser
+    @DisplayName("로그인한 사용자도 외부에서는 지표(actuator)를 조회할 수 없음")
+    @Test
+    void actuator_from_remote() throws Exception {
+        mockMvc.perform(get("/actuator/metrics")
+                .with(request -> {
+                    request.setRemoteAddr("10.0.0.1");
+                    return request;
+                }))
+                .andExpect(status().isForbidden());
+    }
+}
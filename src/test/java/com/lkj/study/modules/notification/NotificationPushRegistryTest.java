@@ -0,0 +1,174 @@
+package com.lkj.study.modules.notification;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+class NotificationPushRegistryTest {
+
+    static final int CLIENTS = 20_000;
+
+    NotificationPushRegistry registry;
+
+    @BeforeEach
+    void beforeEach() {
+        registry = new NotificationPushRegistry(new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("연결하면 읽지 않은 알림 수를 먼저 받고, 이후 새 알림을 받음")
+    void connect_and_push() throws Exception {
+        Connection connection = connect(1L, 3);
+        assertTrue(connection.content().contains("event:unread\ndata:3\n\n"));
+
+        registry.push(1L, new NotificationPush("title", "message", "/study/test", 4));
+        assertTrue(connection.content().contains("event:notification\ndata:"));
+        assertTrue(connection.content().contains("\"unreadCount\":4"));
+    }
+
+    @Test
+    @DisplayName("많은 연결 - heartbeat 는 한 번의 순회로 모든 client 에 전송, 끊기는 연결 없음")
+    void heartbeat_many_clients() throws Exception {
+        List<Connection> connections = new ArrayList<>();
+        for (long accountId = 1; accountId <= CLIENTS; accountId++) {
+            connections.add(connect(accountId, 0));
+        }
+
+        long startedAt = System.nanoTime();
+        registry.heartbeat();
+        long elapsed = System.nanoTime() - startedAt;
+        log.info("heartbeat to {} clients: {} ms", CLIENTS, TimeUnit.NANOSECONDS.toMillis(elapsed));
+
+        assertEquals(CLIENTS, registry.size());
+        assertTrue(connections.stream().allMatch(c -> c.content().endsWith(":heartbeat\n\n")));
+        assertTrue(connections.stream().noneMatch(Connection::isCompleted));
+    }
+
+    @Test
+    @DisplayName("받는 속도가 느린 client 는 buffer 가 찰 때까지 기다렸다가 끊고, 다른 client 전송은 막히지 않음")
+    void slow_client() throws Exception {
+        Connection slow = connect(1L, 0);
+        Connection fast = connect(2L, 0);
+        slow.output.ready = false;
+
+        // 보내지 못한 이벤트가 있으면 heartbeat 는 쌓지 않음
+        for (int i = 0; i < NotificationPushRegistry.BUFFER_SIZE * 2; i++) {
+            registry.heartbeat();
+        }
+        assertFalse(slow.isCompleted());
+
+        for (int i = 1; i < NotificationPushRegistry.BUFFER_SIZE; i++) {
+            registry.push(1L, new NotificationPush("title", "message", "/link", i));
+            registry.push(2L, new NotificationPush("title", "message", "/link", i));
+        }
+        assertFalse(slow.isCompleted());
+        assertTrue(registry.isConnected(1L));
+
+        registry.push(1L, new NotificationPush("title", "message", "/link", 99));
+        assertTrue(slow.isCompleted());
+        assertFalse(registry.isConnected(1L));
+
+        assertFalse(fast.isCompleted());
+        assertTrue(fast.content().contains("\"unreadCount\":" + (NotificationPushRegistry.BUFFER_SIZE - 1)));
+    }
+
+    @Test
+    @DisplayName("쓸 수 없는 동안 쌓인 이벤트는 쓸 수 있게 되면 이어서 전송")
+    void write_when_ready() throws Exception {
+        Connection connection = connect(1L, 0);
+        connection.output.ready = false;
+        registry.push(1L, new NotificationPush("title", "message", "/link", 1));
+        assertFalse(connection.content().contains("event:notification"));
+
+        connection.output.becomeReady();
+        assertTrue(connection.content().contains("event:notification"));
+    }
+
+    private Connection connect(Long accountId, long unreadCount) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/notifications/stream");
+        request.setAsyncSupported(true);
+        FakeOutputStream output = new FakeOutputStream();
+        MockHttpServletResponse response = new MockHttpServletResponse() {
+            @Override
+            public ServletOutputStream getOutputStream() {
+                return output;
+            }
+        };
+        registry.connect(request, response, accountId, unreadCount);
+        return new Connection(request, output);
+    }
+
+    private static class Connection {
+
+        private final MockHttpServletRequest request;
+
+        private final FakeOutputStream output;
+
+        private Connection(MockHttpServletRequest request, FakeOutputStream output) {
+            this.request = request;
+            this.output = output;
+        }
+
+        String content() {
+            return output.content.toString(StandardCharsets.UTF_8);
+        }
+
+        boolean isCompleted() {
+            return !request.isAsyncStarted();
+        }
+    }
+
+    /**
+     * container 의 non-blocking 출력 흉내, ready 가 false 면 쓸 수 없는 상태
+     */
+    private static class FakeOutputStream extends ServletOutputStream {
+
+        private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+
+        private boolean ready = true;
+
+        private WriteListener writeListener;
+
+        @Override
+        public boolean isReady() {
+            return ready;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            this.writeListener = writeListener;
+            if (ready) {
+                becomeReady();
+            }
+        }
+
+        void becomeReady() {
+            ready = true;
+            try {
+                writeListener.onWritePossible();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public void write(int b) {
+            content.write(b);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.lkj.study.modules.notification;
+
+import com.lkj.study.infra.ContainerBaseTest;
+import com.lkj.study.infra.MockMvcTest;
+import com.lkj.study.modules.account.Account;
+import com.lkj.study.modules.account.AccountFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+@MockMvcTest
+class NotificationServiceTest extends ContainerBaseTest {
+
+    static final int NOTIFICATIONS = 1_000;
+
+    @Autowired NotificationService notificationService;
+    @Autowired NotificationRepository notificationRepository;
+    @Autowired AccountFactory accountFactory;
+    @Autowired EntityManager entityManager;
+    @Autowired EntityManagerFactory entityManagerFactory;
+
+    Statistics statistics;
+
+    @BeforeEach
+    void beforeEach() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("읽음 처리 - 알림 수와 관계없이 UPDATE 한 번, 화면에 보여준 뒤 생긴 알림은 그대로")
+    void markAsRead() {
+        // 이전 방식: 엔티티마다 checked 를 바꾸고 저장 -> 알림마다 UPDATE
+        Account before = accountFactory.createAccount("before");
+        List<Notification> shown = createNotifications(before, NOTIFICATIONS);
+        statistics.clear();
+        shown.forEach(n -> n.setChecked(true));
+        notificationRepository.saveAll(shown);
+        entityManager.flush();
+        long statementsBefore = statistics.getPrepareStatementCount();
+
+        Account account = accountFactory.createAccount("reader");
+        shown = createNotifications(account, NOTIFICATIONS);
+        Notification arrivedLater = createNotifications(account, 1).get(0);
+        statistics.clear();
+        notificationService.markAsRead(account, shown);
+        entityManager.flush();
+        long statementsAfter = statistics.getPrepareStatementCount();
+
+        log.info("mark {} notifications as read: {} statements before, {} statements after",
+                NOTIFICATIONS, statementsBefore, statementsAfter);
+        assertTrue(statementsBefore >= NOTIFICATIONS);
+        assertEquals(1, statementsAfter);
+
+        entityManager.clear();
+        assertEquals(NOTIFICATIONS, notificationRepository.countByAccountAndChecked(account, true));
+        assertFalse(notificationRepository.findById(arrivedLater.getId()).orElseThrow().isChecked());
+    }
+
+    @Test
+    @DisplayName("읽은 알림 삭제 - DELETE 한 번, 다른 계정과 maxId 이후 알림은 그대로")
+    void deleteNotifications() {
+        Account account = accountFactory.createAccount("reader");
+        Account other = accountFactory.createAccount("other");
+        List<Notification> notifications = createNotifications(account, NOTIFICATIONS);
+        createNotifications(other, 10);
+        Long maxId = notificationRepository.findMaxIdByAccountId(account.getId());
+        notificationService.markAsRead(account, notifications);
+        Notification arrivedLater = createNotifications(account, 1).get(0);
+        arrivedLater.setChecked(true);
+        entityManager.flush();
+
+        statistics.clear();
+        notificationService.deleteNotifications(account, true, maxId);
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+        entityManager.clear();
+        assertEquals(List.of(arrivedLater.getId()), notificationRepository.findAll().stream()
+                .filter(n -> n.getAccount().getId().equals(account.getId()))
+                .map(Notification::getId)
+                .collect(Collectors.toList()));
+        assertEquals(10, notificationRepository.countByAccountAndChecked(other, false));
+    }
+
+    private List<Notification> createNotifications(Account account, int count) {
+        List<Notification> notifications = IntStream.range(0, count)
+                .mapToObj(i -> {
+                    Notification notification = new Notification();
+                    notification.setTitle("title");
+                    notification.setLink("/link");
+                    notification.setMessage("message");
+                    notification.setChecked(false);
+                    notification.setCreatedDateTime(LocalDateTime.now());
+                    notification.setAccount(account);
+                    notification.setNotificationType(NotificationType.STUDY_UPDATED);
+                    return notification;
+                })
+                .collect(Collectors.toList());
+        notificationRepository.saveAll(notifications);
+        entityManager.flush();
+        return notifications;
+    }
+}
@@ -0,0 +1,114 @@
+package com.lkj.study.modules.notification;
+
+import com.lkj.study.infra.ContainerBaseTest;
+import com.lkj.study.modules.account.Account;
+import com.lkj.study.modules.account.AccountRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 스터디 공개 알림처럼 수신자가 많은 경우 저장 속도 측정 (rows/s 는 로그로 확인)
+ * 계정을 수신자 수만큼 만들지 않고 ACCOUNTS 개 계정에 돌아가면서 알림을 만듦
+ * 실제 fan-out 과 같이 한 transaction 에서 저장해야 하므로 @Transactional 테스트가 아님
+ * 시간은 실행 환경에 따라 달라서 비교 결과로 성공/실패를 정하지 않고 로그만 남김(저장 건수만 확인)
+ * test 에서는 빠지고 benchmarkTest 로 따로 실행
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class NotificationWriterBenchmarkTest extends ContainerBaseTest {
+
+    static final int ACCOUNTS = 1_000;
+
+    @Autowired NotificationWriter notificationWriter;
+    @Autowired NotificationRepository notificationRepository;
+    @Autowired AccountRepository accountRepository;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    TransactionTemplate transactionTemplate;
+    List<Account> accounts;
+
+    @BeforeEach
+    void beforeEach() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        accounts = transactionTemplate.execute(status -> IntStream.range(0, ACCOUNTS)
+                .mapToObj(i -> {
+                    Account account = new Account();
+                    account.setNickname("user" + i);
+                    account.setEmail("user" + i + "@email.com");
+                    return accountRepository.save(account);
+                })
+                .collect(Collectors.toList()));
+    }
+
+    @AfterEach
+    void afterEach() {
+        notificationRepository.deleteAllInBatch();
+        accountRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("수신자 1만 명 - 건별 save 와 batch INSERT 비교")
+    void write_10k() {
+        long saveAll = measure("saveAll", 10_000,
+                notifications -> notificationRepository.saveAll(notifications));
+        notificationRepository.deleteAllInBatch();
+        long writer = measure("NotificationWriter", 10_000, notificationWriter::write);
+
+        log.info("NotificationWriter / saveAll: {}", String.format("%.2f", (double) writer / saveAll));
+    }
+
+    @Test
+    @DisplayName("수신자 10만 명 - batch INSERT")
+    void write_100k() {
+        measure("NotificationWriter", 100_000, notificationWriter::write);
+    }
+
+    private long measure(String name, int recipients, Consumer<List<Notification>> write) {
+        List<Notification> notifications = IntStream.range(0, recipients)
+                .mapToObj(i -> createNotification(accounts.get(i % ACCOUNTS)))
+                .collect(Collectors.toList());
+
+        long startedAt = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> write.accept(notifications));
+        long elapsed = System.nanoTime() - startedAt;
+
+        log.info("{} {} notifications: {} ms, {} rows/s", name, recipients, TimeUnit.NANOSECONDS.toMillis(elapsed),
+                String.format("%.1f", recipients / (elapsed / 1_000_000_000.0)));
+
+        assertEquals(recipients, notificationRepository.count());
+        assertEquals(recipients, notifications.stream().map(Notification::getId).distinct().count());
+        return elapsed;
+    }
+
+    private Notification createNotification(Account account) {
+        Notification notification = new Notification();
+        notification.setTitle("title");
+        notification.setLink("/study/benchmark");
+        notification.setMessage("message");
+        notification.setChecked(false);
+        notification.setCreatedDateTime(LocalDateTime.now());
+        notification.setAccount(account);
+        notification.setNotificationType(NotificationType.STUDY_CREATED);
+        return notification;
+    }
+}
@@ -0,0 +1,79 @@
+package com.lkj.study.modules.notification;
+
+import com.lkj.study.infra.ContainerBaseTest;
+import com.lkj.study.infra.MockMvcTest;
+import com.lkj.study.modules.account.Account;
+import com.lkj.study.modules.account.AccountFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@MockMvcTest
+class UnreadNotificationCounterTest extends ContainerBaseTest {
+
+    @Autowired UnreadNotificationCounter unreadNotificationCounter;
+    @Autowired NotificationRepository notificationRepository;
+    @Autowired AccountFactory accountFactory;
+
+    @Test
+    @DisplayName("처음 한 번만 DB 에서 읽고, 값이 틀어지면 reconcile 로 맞춤")
+    void get_and_reconcile() {
+        Account account = accountFactory.createAccount("reader");
+        createNotification(account);
+        createNotification(account);
+        assertEquals(2, unreadNotificationCounter.get(account.getId()));
+
+        // counter 를 거치지 않고 생성된 알림
+        createNotification(account);
+        assertEquals(2, unreadNotificationCounter.get(account.getId()));
+
+        unreadNotificationCounter.reconcile();
+        assertEquals(3, unreadNotificationCounter.get(account.getId()));
+    }
+
+    @Test
+    @DisplayName("알림 생성은 transaction 이 commit 된 뒤에 반영")
+    void increment_after_commit() {
+        Account account = accountFactory.createAccount("reader");
+        assertEquals(0, unreadNotificationCounter.get(account.getId()));
+
+        createNotification(account);
+        unreadNotificationCounter.increment(account.getId(), 1);
+        assertEquals(0, unreadNotificationCounter.get(account.getId()));
+    }
+
+    @Test
+    @DisplayName("오래 조회하지 않은 계정은 reconcile 때 맞추지 않고 제거, 다음 조회 때 DB 에서 다시 읽음")
+    void idle_account_evicted() {
+        Account account = accountFactory.createAccount("reader");
+        createNotification(account);
+        assertEquals(1, unreadNotificationCounter.get(account.getId()));
+        assertTrue(unreadNotificationCounter.size() > 0);
+
+        unreadNotificationCounter.reconcile(System.currentTimeMillis() + UnreadNotificationCounter.IDLE_MILLIS + 1);
+        assertEquals(0, unreadNotificationCounter.size());
+
+        // 제거된 계정의 증가는 무시되고 다음 조회 때 DB 에서 읽음
+        createNotification(account);
+        unreadNotificationCounter.increment(account.getId(), 1);
+        assertEquals(0, unreadNotificationCounter.size());
+        assertEquals(2, unreadNotificationCounter.get(account.getId()));
+        assertEquals(1, unreadNotificationCounter.size());
+    }
+
+    private void createNotification(Account account) {
+        Notification notification = new Notification();
+        notification.setTitle("title");
+        notification.setLink("/link");
+        notification.setMessage("message");
+        notification.setChecked(false);
+        notification.setCreatedDateTime(LocalDateTime.now());
+        notification.setAccount(account);
+        notification.setNotificationType(NotificationType.STUDY_UPDATED);
+        notificationRepository.save(notification);
+    }
+}
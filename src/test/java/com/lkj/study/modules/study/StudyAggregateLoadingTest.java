@@ -0,0 +1,152 @@
+package com.lkj.study.modules.study;
+
+import com.lkj.study.infra.ContainerBaseTest;
+import com.lkj.study.infra.MockMvcTest;
+import com.lkj.study.modules.account.Account;
+import com.lkj.study.modules.account.AccountFactory;
+import com.lkj.study.modules.account.AccountRepository;
+import com.lkj.study.modules.account.WithAccount;
+import com.lkj.study.modules.tag.Tag;
+import com.lkj.study.modules.tag.TagRepository;
+import com.lkj.study.modules.zone.ZoneRepository;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 스터디 조회 페이지가 컬렉션 크기의 곱이 아닌 합만큼의 row 를 읽고, 엔티티를 로딩하지 않는지 확인
+ * 페이지는 projection 으로만 조회하므로 컬렉션별로 나누어 엔티티를 채우는 조회(fetchCollections)는 repository 에서 따로 확인
+ */
+@MockMvcTest
+class StudyAggregateLoadingTest extends ContainerBaseTest {
+
+    static final int MEMBERS = 200;
+    static final int TAGS = 10;
+    static final int ZONES = 5;
+
+    @Autowired MockMvc mockMvc;
+    @Autowired StudyFactory studyFactory;
+    @Autowired AccountFactory accountFactory;
+    @Autowired AccountRepository accountRepository;
+    @Autowired TagRepository tagRepository;
+    @Autowired ZoneRepository zoneRepository;
+    @Autowired EntityManager entityManager;
+    @Autowired EntityManagerFactory entityManagerFactory;
+    @Autowired StudyRepository studyRepository;
+
+    Statistics statistics;
+
+    @BeforeEach
+    void beforeEach() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @WithAccount("bramhome5848")
+    @DisplayName("스터디 조회 - 컬렉션별로 나누어 조회")
+    void viewStudy() throws Exception {
+        Study study = createLargeStudy();
+
+        statistics.clear();
+        mockMvc.perform(get("/study/" + study.getPath()))
+                .andExpect(status().isOk());
+
+        assertLoadedWithoutCartesianProduct();
+    }
+
+    @Test
+    @WithAccount("bramhome5848")
+    @DisplayName("스터디 멤버 조회 - 컬렉션별로 나누어 조회")
+    void viewStudyMembers() throws Exception {
+        Study study = createLargeStudy();
+
+        statistics.clear();
+        mockMvc.perform(get("/study/" + study.getPath() + "/members"))
+                .andExpect(status().isOk());
+
+        assertLoadedWithoutCartesianProduct();
+    }
+
+    @Test
+    @DisplayName("스터디 엔티티 조회(id) - 스터디 1번 + 컬렉션별 fetch join 4번, 이후 컬렉션 접근에 추가 조회 없음")
+    void findWithAllById() {
+        Study study = createLargeStudy();
+
+        statistics.clear();
+        assertCollectionsLoaded(studyRepository.findWithAllById(study.getId()));
+    }
+
+    @Test
+    @DisplayName("스터디 엔티티 조회(경로) - 스터디 1번 + 컬렉션별 fetch join 4번, 이후 컬렉션 접근에 추가 조회 없음")
+    void findByPath() {
+        Study study = createLargeStudy();
+
+        statistics.clear();
+        assertCollectionsLoaded(studyRepository.findByPath(study.getPath()));
+    }
+
+    private void assertCollectionsLoaded(Study study) {
+        assertEquals(5, statistics.getPrepareStatementCount(), "queries: " + statistics.getPrepareStatementCount());
+        long maxRows = Arrays.stream(statistics.getQueries())
+                .mapToLong(query -> statistics.getQueryStatistics(query).getExecutionRowCount())
+                .max().orElse(0);
+        assertTrue(maxRows <= MEMBERS, "max rows of a query: " + maxRows);
+
+        assertTrue(Hibernate.isInitialized(study.getTags()));
+        assertTrue(Hibernate.isInitialized(study.getZones()));
+        assertTrue(Hibernate.isInitialized(study.getManagers()));
+        assertTrue(Hibernate.isInitialized(study.getMembers()));
+        assertEquals(TAGS, study.getTags().size());
+        assertEquals(ZONES, study.getZones().size());
+        assertEquals(1, study.getManagers().size());
+        assertEquals(MEMBERS, study.getMembers().size());
+        assertEquals(5, statistics.getPrepareStatementCount(), "queries: " + statistics.getPrepareStatementCount());
+    }
+
+    private void assertLoadedWithoutCartesianProduct() {
+        long totalRows = Arrays.stream(statistics.getQueries())
+                .mapToLong(query -> statistics.getQueryStatistics(query).getExecutionRowCount())
+                .sum();
+        long maxRows = Arrays.stream(statistics.getQueries())
+                .mapToLong(query -> statistics.getQueryStatistics(query).getExecutionRowCount())
+                .max().orElse(0);
+
+        // 경로 -> id(StudyPathCache 에 없을 때) 1, 스터디 1 + 태그 + 지역 + 관리자 1 + 멤버, 알림 count 1
+        assertTrue(totalRows <= 1 + 1 + TAGS + ZONES + 1 + MEMBERS + 1, "rows: " + totalRows);
+        assertTrue(maxRows <= MEMBERS, "max rows of a query: " + maxRows);
+        // 경로 -> id, 스터디 + 컬렉션 4개, 알림 count
+        assertTrue(statistics.getPrepareStatementCount() <= 7, "queries: " + statistics.getPrepareStatementCount());
+        // projection 으로만 조회하므로 영속성 컨텍스트에 올라가는 엔티티가 없음
+        assertEquals(0, statistics.getEntityLoadCount(), "entities: " + statistics.getEntityLoadCount());
+    }
+
+    private Study createLargeStudy() {
+        Account manager = accountFactory.createAccount("manager");
+        Study study = studyFactory.createStudy("large-study", manager);
+        for (int i = 0; i < TAGS; i++) {
+            study.getTags().add(tagRepository.save(Tag.builder().title("tag-" + i).build()));
+        }
+        study.getZones().addAll(zoneRepository.findAll(PageRequest.of(0, ZONES)).getContent());
+        for (int i = 0; i < MEMBERS; i++) {
+            study.addMember(accountFactory.createAccount("member" + i));
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        return study;
+    }
+}
@@ -0,0 +1,131 @@
+package com.lkj.study.modules.study;
+
+import com.lkj.study.infra.ContainerBaseTest;
+import com.lkj.study.infra.MockMvcTest;
+import com.lkj.study.modules.account.Account;
+import com.lkj.study.modules.account.AccountFactory;
+import com.lkj.study.modules.study.search.StudyScroll;
+import com.lkj.study.modules.study.search.StudySearchCursor;
+import com.lkj.study.modules.study.search.StudySearchIndex;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 검색 결과의 정렬/페이징은 색인에서 하고 DB 에서는 해당 페이지의 스터디만 조회하는지 확인
+ */
+@MockMvcTest
+class StudyKeywordSearchTest extends ContainerBaseTest {
+
+    static final int STUDIES = 30;
+    static final int PAGE_SIZE = 9;
+
+    @Autowired StudyRepository studyRepository;
+    @Autowired StudySearchIndex studySearchIndex;
+    @Autowired AccountFactory accountFactory;
+    @Autowired EntityManager entityManager;
+    @Autowired EntityManagerFactory entityManagerFactory;
+
+    Statistics statistics;
+
+    /**
+     * 공개 일시가 최근인 순서
+     */
+    List<Long> latestFirst = new ArrayList<>();
+
+    @BeforeEach
+    void beforeEach() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Account manager = accountFactory.createAccount("manager");
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < STUDIES; i++) {
+            Study study = new Study();
+            study.setPath("keyword-search-" + i);
+            study.setTitle("키워드검색 스터디 " + i);
+            study.setShortDescription("검색 테스트");
+            study.setTags(new HashSet<>());
+            study.setZones(new HashSet<>());
+            study.setPublished(true);
+            study.setPublishedDateTime(now.minusHours(i));
+            study.setMemberCount(i % 3);
+            studyRepository.save(study).addManager(manager);
+            studySearchIndex.index(study);
+            latestFirst.add(study.getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @AfterEach
+    void afterEach() {
+        // 색인은 transaction rollback 과 관계없으므로 직접 정리
+        latestFirst.forEach(studySearchIndex::remove);
+    }
+
+    @Test
+    @DisplayName("페이지 검색 - 해당 페이지만 DB 에서 조회, 전체 개수는 색인 결과 수")
+    void findByKeyword_page() {
+        statistics.clear();
+        Page<Study> page = studyRepository.findByKeyword("키워드검색",
+                PageRequest.of(1, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "publishedDateTime")));
+
+        assertEquals(STUDIES, page.getTotalElements());
+        assertEquals(latestFirst.subList(PAGE_SIZE, PAGE_SIZE * 2),
+                page.getContent().stream().map(Study::getId).collect(Collectors.toList()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(PAGE_SIZE, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("페이지 검색 - 멤버 수 정렬, 같으면 id 내림차순")
+    void findByKeyword_page_memberCount() {
+        Page<Study> page = studyRepository.findByKeyword("키워드검색",
+                PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "memberCount")));
+
+        List<Long> expected = latestFirst.stream()
+                .filter(id -> latestFirst.indexOf(id) % 3 == 2)
+                .sorted((a, b) -> Long.compare(b, a))
+                .limit(PAGE_SIZE)
+                .collect(Collectors.toList());
+        assertEquals(expected, page.getContent().stream().map(Study::getId).collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("scroll 검색 - cursor 다음 결과를 색인에서 찾고, 페이지마다 DB 조회는 한 번")
+    void findByKeyword_scroll() {
+        List<Long> found = new ArrayList<>();
+        StudySearchCursor cursor = StudySearchCursor.first(StudySearchCursor.PUBLISHED_DATE_TIME);
+        while (true) {
+            entityManager.clear();
+            statistics.clear();
+            StudyScroll scroll = studyRepository.findByKeyword("키워드검색", cursor, PAGE_SIZE, true);
+            assertEquals(1, statistics.getPrepareStatementCount());
+            assertEquals(Long.valueOf(STUDIES), scroll.getTotalElements());
+            found.addAll(scroll.getContent().stream().map(Study::getId).collect(Collectors.toList()));
+            if (scroll.getNextCursor() == null) {
+                break;
+            }
+            cursor = StudySearchCursor.decode(scroll.getNextCursor());
+        }
+
+        assertEquals(latestFirst, found);
+    }
+}
@@ -0,0 +1,124 @@
+package com.lkj.study.modules.study;
+
+import com.lkj.study.infra.ContainerBaseTest;
+import com.lkj.study.infra.MockMvcTest;
+import com.lkj.study.modules.account.Account;
+import com.lkj.study.modules.account.AccountFactory;
+import com.lkj.study.modules.tag.Tag;
+import com.lkj.study.modules.tag.TagRepository;
+import com.lkj.study.modules.zone.Zone;
+import com.lkj.study.modules.zone.ZoneRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@MockMvcTest
+class StudyRecommendationsTest extends ContainerBaseTest {
+
+    @Autowired StudyRecommendations studyRecommendations;
+    @Autowired StudyFactory studyFactory;
+    @Autowired AccountFactory accountFactory;
+    @Autowired TagRepository tagRepository;
+    @Autowired ZoneRepository zoneRepository;
+    @Autowired EntityManager entityManager;
+
+    Account account;
+    Tag tag;
+    Zone zone;
+    Zone otherZone;
+
+    @BeforeEach
+    void beforeEach() {
+        tag = tagRepository.save(Tag.builder().title("recommendation").build());
+        List<Zone> zones = zoneRepository.findAll(PageRequest.of(0, 2)).getContent();
+        zone = zones.get(0);
+        otherZone = zones.get(1);
+
+        account = accountFactory.createAccount("reader");
+        account.getTags().add(tag);
+        account.getZones().add(zone);
+    }
+
+    @Test
+    @DisplayName("추천 목록 - 관심 주제와 활동 지역이 모두 겹치는 공개 스터디")
+    void recommend() {
+        Study matched = createStudy("matched", zone, true);
+        createStudy("other-zone", otherZone, true);
+        createStudy("not-published", zone, false);
+
+        assertEquals(List.of(matched.getId()), studyRecommendations.getStudyIds(account));
+    }
+
+    @Test
+    @DisplayName("추천 목록 - 새로 공개된 스터디는 다시 계산하지 않고 앞에 추가")
+    void recommend_newStudy() {
+        Study first = createStudy("first", zone, true);
+        studyRecommendations.getStudyIds(account);
+
+        Study second = createStudy("second", zone, true);
+        studyRecommendations.refresh(second.getId());
+
+        assertEquals(List.of(second.getId(), first.getId()), studyRecommendations.getStudyIds(account));
+    }
+
+    @Test
+    @DisplayName("추천 목록 - 관심 주제나 활동 지역이 겹치지 않는 목록에는 추가하지 않음")
+    void recommend_newStudy_other_interest() {
+        Account other = accountFactory.createAccount("other-reader");
+        other.getTags().add(tagRepository.save(Tag.builder().title("other-recommendation").build()));
+        other.getZones().add(zone);
+        assertTrue(studyRecommendations.getStudyIds(other).isEmpty());
+        assertTrue(studyRecommendations.getStudyIds(account).isEmpty());
+
+        Study study = createStudy("matched", zone, true);
+        studyRecommendations.refresh(study.getId());
+
+        assertEquals(List.of(study.getId()), studyRecommendations.getStudyIds(account));
+        assertTrue(studyRecommendations.getStudyIds(other).isEmpty());
+    }
+
+    @Test
+    @DisplayName("추천 목록 - 종료된 스터디는 빠짐")
+    void recommend_closedStudy() {
+        Study first = createStudy("first", zone, true);
+        Study second = createStudy("second", zone, true);
+        assertEquals(List.of(second.getId(), first.getId()), studyRecommendations.getStudyIds(account));
+
+        second.close();
+        entityManager.flush();
+        studyRecommendations.refresh(second.getId());
+
+        assertEquals(List.of(first.getId()), studyRecommendations.getStudyIds(account));
+    }
+
+    @Test
+    @DisplayName("추천 목록 - 보관한 목록을 버리면 다시 계산")
+    void recommend_interestChanged() {
+        assertTrue(studyRecommendations.getStudyIds(account).isEmpty());
+
+        Study study = createStudy("matched", zone, true);
+        assertTrue(studyRecommendations.getStudyIds(account).isEmpty());
+
+        studyRecommendations.evict(account.getId());
+
+        assertEquals(List.of(study.getId()), studyRecommendations.getStudyIds(account));
+    }
+
+    private Study createStudy(String path, Zone studyZone, boolean published) {
+        Study study = studyFactory.createStudy(path, accountFactory.createAccount(path + "-manager"));
+        study.getTags().add(tag);
+        study.getZones().add(studyZone);
+        if (published) {
+            study.publish();
+        }
+        entityManager.flush();
+        return study;
+    }
+}
@@ -0,0 +1,139 @@
+package com.lkj.study.modules.study.search;
+
+import com.lkj.study.modules.study.Study;
+import com.lkj.study.modules.tag.Tag;
+import com.lkj.study.modules.zone.Zone;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StudySearchIndexTest {
+
+    StudySearchIndex studySearchIndex;
+
+    @BeforeEach
+    void beforeEach() {
+        studySearchIndex = new StudySearchIndex(new KoreanNGramAnalyzer());
+    }
+
+    @DisplayName("제목, 태그, 지역 이름으로 공개된 스터디 검색")
+    @Test
+    void search() {
+        studySearchIndex.index(createStudy(1L, "Spring JPA 스터디", "JPA", "서울"));
+        studySearchIndex.index(createStudy(2L, "Java 기초", "Java", "부산"));
+
+        assertEquals(Set.of(1L), studySearchIndex.search("jpa"));
+        assertEquals(Set.of(2L), studySearchIndex.search("부산"));
+        assertEquals(Set.of(2L), studySearchIndex.search("ja"));
+        assertEquals(Set.of(1L, 2L), studySearchIndex.search("city"));
+        assertEquals(Set.of(1L), studySearchIndex.search("spring 서울"));
+        assertTrue(studySearchIndex.search("python").isEmpty());
+    }
+
+    @DisplayName("한글은 n-gram 으로 색인하기 때문에 단어 일부로도 검색 가능")
+    @Test
+    void search_korean_substring() {
+        studySearchIndex.index(createStudy(1L, "자바스터디모임", "Java", "서울"));
+
+        assertEquals(Set.of(1L), studySearchIndex.search("스터디"));
+        assertEquals(Set.of(1L), studySearchIndex.search("디모"));
+        assertTrue(studySearchIndex.search("스터디원").isEmpty());
+    }
+
+    @DisplayName("관련도 정렬은 제목에 검색어가 있는 스터디가 먼저")
+    @Test
+    void searchByRelevance() {
+        studySearchIndex.index(createStudy(1L, "알고리즘 모임", "JPA", "서울"));
+        studySearchIndex.index(createStudy(2L, "JPA 스터디", "JPA", "서울"));
+        studySearchIndex.index(createStudy(3L, "자바 스터디", "Java", "서울"));
+
+        assertEquals(List.of(2L, 1L), studySearchIndex.searchByRelevance("jpa"));
+    }
+
+    @DisplayName("검색어 하나가 prefix 로 여러 term 에 매칭되어도 점수는 가장 높은 term 하나만큼")
+    @Test
+    void score_prefix_match_once() {
+        studySearchIndex.index(createStudy(1L, "springboot springcloud", "JPA", "서울"));
+        studySearchIndex.index(createStudy(2L, "spring", "JPA", "서울"));
+        studySearchIndex.index(createStudy(3L, "Java 기초", "Java", "부산"));
+
+        double prefixScore = scoreOf(1L, "spring");
+        assertEquals(Math.max(scoreOf(1L, "springboot"), scoreOf(1L, "springcloud")), prefixScore, 1e-9);
+        assertEquals(List.of(2L, 1L), studySearchIndex.searchByRelevance("spring"));
+    }
+
+    @DisplayName("비공개로 다시 색인하거나 삭제한 스터디는 검색되지 않음")
+    @Test
+    void reindex_and_remove() {
+        Study study = createStudy(1L, "Spring JPA 스터디", "JPA", "서울");
+        studySearchIndex.index(study);
+        assertEquals(Set.of(1L), studySearchIndex.search("spring"));
+
+        study.setPublished(false);
+        studySearchIndex.index(study);
+        assertTrue(studySearchIndex.search("spring").isEmpty());
+
+        study.setPublished(true);
+        studySearchIndex.index(study);
+        studySearchIndex.remove(1L);
+        assertTrue(studySearchIndex.search("spring").isEmpty());
+        assertEquals(0, studySearchIndex.size());
+    }
+
+    @DisplayName("같은 스터디를 여러 번 다시 색인해도 문서 번호가 늘어나지 않음")
+    @Test
+    void reindex_reuse_doc() {
+        Study study = createStudy(1L, "Spring JPA 스터디", "JPA", "서울");
+        for (int i = 0; i < 100; i++) {
+            study.setTitle("Spring JPA 스터디 " + i);
+            studySearchIndex.index(study);
+        }
+
+        assertEquals(1, studySearchIndex.size());
+        assertEquals(1, studySearchIndex.maxDoc());
+        assertEquals(Set.of(1L), studySearchIndex.search("spring"));
+    }
+
+    @DisplayName("삭제된 문서 번호를 다른 스터디가 다시 사용해도 검색/삭제가 맞게 동작")
+    @Test
+    void remove_and_reuse_doc() {
+        studySearchIndex.index(createStudy(1L, "Spring JPA 스터디", "JPA", "서울"));
+        studySearchIndex.index(createStudy(2L, "JPA 기초", "JPA", "부산"));
+        studySearchIndex.index(createStudy(3L, "JPA 심화", "JPA", "대전"));
+        studySearchIndex.remove(1L);
+
+        studySearchIndex.index(createStudy(4L, "JPA 실전", "JPA", "광주"));
+        assertEquals(3, studySearchIndex.maxDoc());
+        assertEquals(Set.of(2L, 3L, 4L), studySearchIndex.search("jpa"));
+        assertEquals(Set.of(4L), studySearchIndex.search("광주"));
+        assertTrue(studySearchIndex.search("서울").isEmpty());
+
+        studySearchIndex.remove(4L);
+        studySearchIndex.remove(2L);
+        assertEquals(Set.of(3L), studySearchIndex.search("jpa"));
+    }
+
+    private double scoreOf(Long studyId, String keyword) {
+        return studySearchIndex.searchHits(keyword).stream()
+                .filter(hit -> hit.getStudyId().equals(studyId))
+                .findFirst()
+                .orElseThrow()
+                .getScore();
+    }
+
+    private Study createStudy(Long id, String title, String tagTitle, String localNameOfCity) {
+        Study study = new Study();
+        study.setId(id);
+        study.setTitle(title);
+        study.setPublished(true);
+        study.setTags(new HashSet<>(Set.of(Tag.builder().id(id).title(tagTitle).build())));
+        study.setZones(new HashSet<>(Set.of(Zone.builder().id(id).city("city").localNameOfCity(localNameOfCity).build())));
+        return study;
+    }
+}